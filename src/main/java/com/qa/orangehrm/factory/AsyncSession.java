@@ -0,0 +1,311 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import com.qa.orangehrm.utils.PageScripts;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.ErrorCodec;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.TracedCommandExecutor;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Async Session class to drive a browser without blocking the calling thread: every command is
+ * sent to the session's driver over the W3C WebDriver protocol with an asynchronous HTTP request
+ * and returns a CompletableFuture, so one thread can fan the same action out to many sessions
+ * and join the results. Responses are handled on a single shared I/O thread, never on the caller
+ */
+public class AsyncSession {
+    
+    private static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f18581a8c16";
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final Json JSON = new Json();
+    private static final ErrorCodec ERRORS = ErrorCodec.createDefault();
+    private static ExecutorService ioExecutor;
+    private static HttpClient client;
+    
+    private final WebDriver driver;
+    private final String sessionUrl;
+    
+    private AsyncSession(WebDriver driver, String sessionUrl) {
+        this.driver = driver;
+        this.sessionUrl = sessionUrl;
+    }
+    
+    /**
+     * Get an async handle on a running WebDriver session; the driver stays usable through its blocking API
+     */
+    public static AsyncSession of(WebDriver driver) {
+        WebDriver browser = DriverFactory.unwrap(driver);
+        CommandExecutor executor = browser instanceof RemoteWebDriver ? ((RemoteWebDriver) browser).getCommandExecutor() : null;
+        // Selenium wraps the HTTP executor for tracing without exposing it
+        while (executor instanceof TracedCommandExecutor) {
+            try {
+                Field delegate = TracedCommandExecutor.class.getDeclaredField("delegate");
+                delegate.setAccessible(true);
+                executor = (CommandExecutor) delegate.get(executor);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                executor = null;
+            }
+        }
+        if (!(executor instanceof HttpCommandExecutor)) {
+            throw new IllegalArgumentException(browser.getClass().getSimpleName() + " does not talk to its driver over HTTP");
+        }
+        String server = ((HttpCommandExecutor) executor).getAddressOfRemoteServer().toString();
+        return new AsyncSession(driver, server.replaceAll("/+$", "") + "/session/" + ((RemoteWebDriver) browser).getSessionId());
+    }
+    
+    /**
+     * Launch a browser on the background launcher threads and get its async handle
+     */
+    public static CompletableFuture<AsyncSession> launch() {
+        return BackgroundDriverExecutor.launchAsync().thenApply(AsyncSession::of);
+    }
+    
+    /**
+     * Launch count browsers concurrently and get their async handles
+     */
+    public static CompletableFuture<List<AsyncSession>> launch(int count) {
+        List<CompletableFuture<AsyncSession>> launches = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            launches.add(launch());
+        }
+        return joinAll(launches);
+    }
+    
+    /**
+     * Combine the futures of a fan-out into one future of their results, in the same order;
+     * it fails with the first failure once all of them have finished
+     */
+    public static <T> CompletableFuture<List<T>> joinAll(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+    
+    /**
+     * Open a URL; completes once the page has loaded as far as the page load strategy waits
+     */
+    public CompletableFuture<Void> navigate(String url) {
+        return command("POST", "/url", Map.of("url", url)).thenApply(value -> null);
+    }
+    
+    /**
+     * Get the current URL
+     */
+    public CompletableFuture<String> getCurrentUrl() {
+        return command("GET", "/url", null).thenApply(String.class::cast);
+    }
+    
+    /**
+     * Get the page title
+     */
+    public CompletableFuture<String> getTitle() {
+        return command("GET", "/title", null).thenApply(String.class::cast);
+    }
+    
+    /**
+     * Find an element, polling until it is present or browser.element.check.timeout runs out;
+     * completes with the element reference used by the element commands
+     */
+    public CompletableFuture<String> findElement(By locator) {
+        Map<String, String> query = toW3cLocator(locator);
+        return poll(() -> command("POST", "/element", query)
+                        .thenApply(value -> (String) ((Map<?, ?>) value).get(ELEMENT_KEY)),
+                ConfigReader.getElementCheckTimeout(), "presence of " + locator);
+    }
+    
+    /**
+     * Type into an element
+     */
+    public CompletableFuture<Void> sendKeys(String elementId, String text) {
+        return command("POST", "/element/" + elementId + "/value", Map.of("text", text)).thenApply(value -> null);
+    }
+    
+    /**
+     * Click an element
+     */
+    public CompletableFuture<Void> click(String elementId) {
+        return command("POST", "/element/" + elementId + "/click", Map.of()).thenApply(value -> null);
+    }
+    
+    /**
+     * Get the visible text of an element
+     */
+    public CompletableFuture<String> getText(String elementId) {
+        return command("GET", "/element/" + elementId + "/text", null).thenApply(String.class::cast);
+    }
+    
+    /**
+     * Run a synchronous script in the page
+     */
+    public CompletableFuture<Object> executeScript(String script, Object... args) {
+        return command("POST", "/execute/sync", Map.of("script", script, "args", Arrays.asList(args)));
+    }
+    
+    /**
+     * Delete all cookies of the current domain
+     */
+    public CompletableFuture<Void> deleteAllCookies() {
+        return command("DELETE", "/cookie", null).thenApply(value -> null);
+    }
+    
+    /**
+     * Wait until the current URL contains fragment, polling for up to timeoutSeconds; completes with the URL
+     */
+    public CompletableFuture<String> waitForUrlContaining(String fragment, int timeoutSeconds) {
+        return poll(() -> getCurrentUrl().thenApply(url -> url.contains(fragment) ? url : null),
+                timeoutSeconds, "URL containing " + fragment);
+    }
+    
+    /**
+     * Get the blocking WebDriver of this session
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+    
+    /**
+     * Quit the browser on the background reaper thread
+     */
+    public void quit() {
+        BackgroundDriverExecutor.quitAsync(driver);
+    }
+    
+    /**
+     * Send one WebDriver command and complete with its value, or fail with the WebDriverException
+     * the driver reported; a response that is not W3C JSON and a command that outlasts
+     * driver.async.command.timeout fail with a WebDriverException as well
+     */
+    private CompletableFuture<Object> command(String method, String path, Map<String, ?> body) {
+        long start = System.currentTimeMillis();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(sessionUrl + path))
+                .timeout(Duration.ofSeconds(ConfigReader.getAsyncCommandTimeout()))
+                .header("Content-Type", "application/json; charset=utf-8")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(JSON.toJson(body)))
+                .build();
+        return getClient().sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof HttpTimeoutException) {
+                        throw new TimeoutException(method + " " + path + " got no response within "
+                                + ConfigReader.getAsyncCommandTimeout() + " second(s)", cause);
+                    }
+                    throw new WebDriverException(method + " " + path + " could not reach the driver", cause);
+                })
+                .thenApply(response -> {
+                    MetricsCollector.increment("async.commands");
+                    MetricsCollector.recordTime("async.command.time", System.currentTimeMillis() - start);
+                    Map<String, Object> payload;
+                    try {
+                        payload = JSON.toType(response.body(), Json.MAP_TYPE);
+                    } catch (JsonException | ClassCastException e) {
+                        payload = null;
+                    }
+                    Object value = payload == null ? null : payload.get("value");
+                    if (response.statusCode() == 200 && payload != null && payload.containsKey("value")) {
+                        return value;
+                    }
+                    if (value instanceof Map && ((Map<?, ?>) value).containsKey("error")) {
+                        throw ERRORS.decode(payload);
+                    }
+                    throw new WebDriverException(method + " " + path + " got HTTP " + response.statusCode()
+                            + " without a W3C response: " + response.body());
+                });
+    }
+    
+    /**
+     * Repeat an attempt every POLL_INTERVAL_MILLIS until it yields a value; NoSuchElementException
+     * and null count as not yet. The waits are scheduled, so no thread sleeps while polling
+     */
+    private <T> CompletableFuture<T> poll(Supplier<CompletableFuture<T>> attempt, int timeoutSeconds, String condition) {
+        long deadline = System.currentTimeMillis() + timeoutSeconds * 1000L;
+        return poll(attempt, deadline, timeoutSeconds, condition);
+    }
+    
+    private <T> CompletableFuture<T> poll(Supplier<CompletableFuture<T>> attempt, long deadline, int timeoutSeconds, String condition) {
+        return attempt.get()
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof NoSuchElementException) {
+                        return null;
+                    }
+                    throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+                })
+                .thenCompose(value -> {
+                    if (value != null) {
+                        return CompletableFuture.completedFuture(value);
+                    }
+                    if (System.currentTimeMillis() >= deadline) {
+                        return CompletableFuture.failedFuture(new TimeoutException(
+                                "Expected condition failed: waiting for " + condition + " (tried for " + timeoutSeconds + " second(s))"));
+                    }
+                    return CompletableFuture.runAsync(() -> { },
+                                    CompletableFuture.delayedExecutor(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS, getIoExecutor()))
+                            .thenCompose(ignored -> poll(attempt, deadline, timeoutSeconds, condition));
+                });
+    }
+    
+    /**
+     * Translate a locator to a W3C strategy; By.name, By.id and By.className become CSS selectors
+     */
+    private static Map<String, String> toW3cLocator(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be sent to the driver: " + locator);
+        }
+        String cssSelector = PageScripts.toCssSelector(locator);
+        if (cssSelector != null) {
+            return Map.of("using", "css selector", "value", cssSelector);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return Map.of("using", parameters.using(), "value", String.valueOf(parameters.value()));
+    }
+    
+    private static synchronized ExecutorService getIoExecutor() {
+        if (ioExecutor == null) {
+            ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "async-session-io");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return ioExecutor;
+    }
+    
+    private static synchronized HttpClient getClient() {
+        if (client == null) {
+            client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(getIoExecutor())
+                    .build();
+        }
+        return client;
+    }
+}
@@ -0,0 +1,160 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background Driver Executor class to quit browsers off the test thread,
+ * pre-launch the browser for each worker thread's next test and launch AsyncSession browsers
+ */
+public class BackgroundDriverExecutor {
+    
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static final Map<Long, Future<WebDriver>> prelaunchedDrivers = new ConcurrentHashMap<>();
+    private static ExecutorService reaper;
+    private static ExecutorService launcher;
+    
+    /**
+     * Quit WebDriver on the background reaper thread
+     */
+    public static void quitAsync(WebDriver driver) {
+        getReaper().submit(() -> quit(driver));
+    }
+    
+    /**
+     * Start launching a browser for the current thread's next test if a browser permit is free
+     * right now; waiting for one would hold a second permit per worker and halve the browser cap
+     */
+    public static void prelaunch() {
+        long threadId = Thread.currentThread().getId();
+        if (prelaunchedDrivers.containsKey(threadId)) {
+            return;
+        }
+        if (!BrowserResourceManager.tryAcquire()) {
+            MetricsCollector.increment("driver.prelaunch.skipped");
+            return;
+        }
+        prelaunchedDrivers.put(threadId, getLauncher().submit(() -> DriverFactory.createAdmittedDriver()));
+    }
+    
+    /**
+     * Launch a browser on the launcher threads without tying it to the calling thread
+     */
+    public static CompletableFuture<WebDriver> launchAsync() {
+        return CompletableFuture.supplyAsync(() -> DriverFactory.createDriver(), getLauncher());
+    }
+    
+    /**
+     * Take the browser pre-launched for the current thread, or null if there is none
+     */
+    public static WebDriver takePrelaunched() {
+        Future<WebDriver> pending = prelaunchedDrivers.remove(Thread.currentThread().getId());
+        if (pending == null) {
+            MetricsCollector.increment("driver.prelaunch.misses");
+            return null;
+        }
+        long start = System.currentTimeMillis();
+        WebDriver driver = null;
+        try {
+            driver = pending.get();
+            driver.getWindowHandle();
+            MetricsCollector.increment("driver.prelaunch.hits");
+            MetricsCollector.recordTime("driver.prelaunch.wait", System.currentTimeMillis() - start);
+            return driver;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | WebDriverException e) {
+            System.out.println("Pre-launched browser unusable, launching a new one: " + e.getMessage());
+            MetricsCollector.increment("driver.prelaunch.failures");
+            if (driver != null) {
+                quitAsync(driver);
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * Quit unused pre-launched browsers and wait for pending quits to finish
+     */
+    public static synchronized void shutdown() {
+        List<Future<WebDriver>> pending = new ArrayList<>(prelaunchedDrivers.values());
+        prelaunchedDrivers.clear();
+        for (Future<WebDriver> future : pending) {
+            try {
+                quitAsync(future.get());
+                MetricsCollector.increment("driver.prelaunch.unused");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                // Launch failed, nothing to quit
+            }
+        }
+        awaitTermination(launcher);
+        awaitTermination(reaper);
+        launcher = null;
+        reaper = null;
+    }
+    
+    private static void quit(WebDriver driver) {
+        long start = System.currentTimeMillis();
+        try {
+            DriverFactory.quitBrowser(driver);
+            MetricsCollector.recordTime("driver.quit.async.time", System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            System.out.println("Background driver quit failed: " + e.getMessage());
+            MetricsCollector.increment("driver.quit.async.failures");
+        }
+    }
+    
+    private static void awaitTermination(ExecutorService executor) {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.out.println("Background driver tasks still running after " + SHUTDOWN_TIMEOUT_SECONDS + "s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static synchronized ExecutorService getReaper() {
+        if (reaper == null) {
+            reaper = Executors.newCachedThreadPool(runnable -> newDaemonThread(runnable, "driver-reaper-"));
+        }
+        return reaper;
+    }
+    
+    private static synchronized ExecutorService getLauncher() {
+        if (launcher == null) {
+            launcher = Executors.newCachedThreadPool(runnable -> newDaemonThread(() -> {
+                DriverServiceManager.useBackgroundScope();
+                runnable.run();
+            }, "driver-launcher-"));
+        }
+        return launcher;
+    }
+    
+    private static Thread newDaemonThread(Runnable runnable, String prefix) {
+        Thread thread = new Thread(runnable, prefix + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,376 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Browser Resource Manager class to cap concurrent live browsers based on machine
+ * resources and measured browser footprint, and to kill browser/driver processes that survive the run
+ */
+public class BrowserResourceManager {
+    
+    private static final String[] BROWSER_PROCESS_NAMES = {"chrome", "chromium", "chromedriver", "firefox",
+            "geckodriver", "msedge", "msedgedriver"};
+    private static final String PID_FILE_PREFIX = "browser-pids-";
+    private static final String FOOTPRINT_FILE_NAME = "browser-footprint.properties";
+    // Process start times derived from clock ticks differ slightly between reads
+    private static final long START_TIME_TOLERANCE_MILLIS = 1000;
+    
+    private static final long storedFootprintMb = loadFootprint();
+    private static volatile long observedFootprintMb;
+    private static volatile int maxBrowsers = computeMaxBrowsers();
+    private static final ResizableSemaphore permits = new ResizableSemaphore(maxBrowsers);
+    private static final Set<WebDriver> liveDrivers = ConcurrentHashMap.newKeySet();
+    private static final Set<Long> spawnedPids = ConcurrentHashMap.newKeySet();
+    private static final File pidFile = new File(ConfigReader.getBrowserPidDirectory(),
+            PID_FILE_PREFIX + ProcessHandle.current().pid() + ".txt");
+    
+    static {
+        System.out.println("Browser admission limit: " + maxBrowsers + " concurrent browser(s), "
+                + getBrowserFootprintMb() + " MB per browser (" + (isFootprintMeasured() ? "measured" : "configured") + ")");
+        MetricsCollector.setGauge("browser.admission.limit", maxBrowsers);
+        reapPreviousRuns();
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserResourceManager::killSurvivors, "browser-orphan-reaper"));
+    }
+    
+    /**
+     * Wait for a permit to launch a browser
+     */
+    public static void acquire() {
+        long start = System.currentTimeMillis();
+        try {
+            if (!permits.tryAcquire(ConfigReader.getBrowserAdmissionTimeout(), TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for a browser permit (limit " + maxBrowsers + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser permit", e);
+        }
+        MetricsCollector.recordTime("browser.admission.wait", System.currentTimeMillis() - start);
+    }
+    
+    /**
+     * Take a permit only if one is free right now
+     */
+    public static boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+    
+    /**
+     * Register a launched browser holding a permit and record its processes
+     */
+    public static void register(WebDriver driver) {
+        liveDrivers.add(driver);
+        MetricsCollector.setGauge("browser.live", liveDrivers.size());
+        trackSpawnedProcesses();
+        sampleFootprint();
+    }
+    
+    /**
+     * Return a permit when a launch fails before the browser is registered
+     */
+    public static void releaseUnregistered() {
+        permits.release();
+    }
+    
+    /**
+     * Return the permit held by a browser that has been quit
+     */
+    public static void release(WebDriver driver) {
+        if (liveDrivers.remove(driver)) {
+            permits.release();
+            MetricsCollector.setGauge("browser.live", liveDrivers.size());
+        }
+    }
+    
+    /**
+     * Get maximum number of concurrent browsers
+     */
+    public static int getMaxBrowsers() {
+        return maxBrowsers;
+    }
+    
+    /**
+     * Change the number of concurrent browsers. Browsers already running keep their permits;
+     * when shrinking, new launches wait until enough of them have been quit.
+     */
+    public static synchronized void resize(int limit) {
+        int newLimit = Math.max(1, limit);
+        int delta = newLimit - maxBrowsers;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reducePermits(-delta);
+        }
+        maxBrowsers = newLimit;
+        MetricsCollector.setGauge("browser.admission.limit", newLimit);
+    }
+    
+    /**
+     * Get free physical memory in MB, or -1 if the JVM cannot report it
+     */
+    @SuppressWarnings("deprecation")
+    public static long getFreeMemoryMb() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            // Deprecated from Java 14, but its replacement getFreeMemorySize does not exist on Java 11
+            return ((com.sun.management.OperatingSystemMXBean) os).getFreePhysicalMemorySize() / (1024 * 1024);
+        }
+        return -1;
+    }
+    
+    /**
+     * Get memory used per browser: measured in this run, measured in an earlier run, or configured
+     */
+    public static long getBrowserFootprintMb() {
+        if (observedFootprintMb > 0) {
+            return observedFootprintMb;
+        }
+        return storedFootprintMb > 0 ? storedFootprintMb : ConfigReader.getBrowserMemoryPerInstanceMb();
+    }
+    
+    /**
+     * Check if the browser footprint comes from a measurement rather than configuration
+     */
+    public static boolean isFootprintMeasured() {
+        return observedFootprintMb > 0 || storedFootprintMb > 0;
+    }
+    
+    /**
+     * Measure resident memory of the live browsers and their driver processes (Linux only),
+     * keeping the peak per-browser value
+     */
+    public static void sampleFootprint() {
+        int live = liveDrivers.size();
+        if (live == 0 || !new File("/proc/self/status").exists()) {
+            return;
+        }
+        long totalKb = ProcessHandle.current().descendants()
+                .filter(BrowserResourceManager::isBrowserProcess)
+                .mapToLong(handle -> readResidentKb(handle.pid()))
+                .sum();
+        long perBrowserMb = totalKb / 1024 / live;
+        if (perBrowserMb > observedFootprintMb) {
+            observedFootprintMb = perBrowserMb;
+            MetricsCollector.setGauge("browser.footprint.mb", perBrowserMb);
+        }
+    }
+    
+    /**
+     * Store the measured browser footprint so the next run can size itself before launching anything
+     */
+    public static synchronized void saveFootprint() {
+        if (observedFootprintMb <= 0) {
+            return;
+        }
+        File footprintFile = new File(ConfigReader.getDriverCacheDirectory(), FOOTPRINT_FILE_NAME);
+        Properties footprints = new Properties();
+        if (footprintFile.exists()) {
+            try (InputStream in = new FileInputStream(footprintFile)) {
+                footprints.load(in);
+            } catch (IOException e) {
+                System.out.println("Failed to read browser footprint file: " + e.getMessage());
+            }
+        }
+        footprints.setProperty(footprintKey(), String.valueOf(observedFootprintMb));
+        footprintFile.getParentFile().mkdirs();
+        try (OutputStream out = new FileOutputStream(footprintFile)) {
+            footprints.store(out, "Measured resident memory per browser in MB");
+        } catch (IOException e) {
+            System.out.println("Failed to write browser footprint file: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Kill tracked browser/driver processes that are still alive
+     */
+    public static synchronized void killSurvivors() {
+        int killed = 0;
+        for (Long pid : new ArrayList<>(spawnedPids)) {
+            Optional<ProcessHandle> handle = ProcessHandle.of(pid);
+            if (handle.isPresent() && handle.get().isAlive() && isBrowserProcess(handle.get())) {
+                handle.get().destroyForcibly();
+                killed++;
+            }
+            spawnedPids.remove(pid);
+        }
+        if (killed > 0) {
+            System.out.println("Killed " + killed + " orphaned browser/driver process(es)");
+            MetricsCollector.add("browser.orphans.killed", killed);
+        }
+        pidFile.delete();
+    }
+    
+    /**
+     * Derive the browser cap from cores and free memory unless configured explicitly
+     */
+    private static int computeMaxBrowsers() {
+        int configured = ConfigReader.getBrowserMaxConcurrent();
+        if (configured > 0) {
+            return configured;
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        long freeMb = getFreeMemoryMb();
+        int byMemory = freeMb < 0 ? cores : (int) (freeMb / getBrowserFootprintMb());
+        return Math.max(1, Math.min(cores, byMemory));
+    }
+    
+    private static long loadFootprint() {
+        File footprintFile = new File(ConfigReader.getDriverCacheDirectory(), FOOTPRINT_FILE_NAME);
+        if (!footprintFile.exists()) {
+            return 0;
+        }
+        Properties footprints = new Properties();
+        try (InputStream in = new FileInputStream(footprintFile)) {
+            footprints.load(in);
+            return Long.parseLong(footprints.getProperty(footprintKey(), "0").trim());
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Failed to read browser footprint file: " + e.getMessage());
+            return 0;
+        }
+    }
+    
+    private static String footprintKey() {
+        return ConfigReader.getBrowserName().toLowerCase(Locale.ROOT) + ".footprint.mb";
+    }
+    
+    /**
+     * Read VmRSS of a process from /proc, 0 if it has exited
+     */
+    private static long readResidentKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(new File("/proc/" + pid + "/status").toPath(), StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process exited between listing and reading
+        }
+        return 0;
+    }
+    
+    /**
+     * Record browser/driver processes spawned by this JVM so they can be killed if orphaned
+     */
+    private static void trackSpawnedProcesses() {
+        List<Long> pids = ProcessHandle.current().descendants()
+                .filter(BrowserResourceManager::isBrowserProcess)
+                .map(ProcessHandle::pid)
+                .collect(Collectors.toList());
+        if (spawnedPids.addAll(pids)) {
+            writePidFile();
+        }
+    }
+    
+    private static synchronized void writePidFile() {
+        try {
+            pidFile.getParentFile().mkdirs();
+            // Start time next to each PID, so a later run never kills a process that reused the PID
+            List<String> lines = spawnedPids.stream()
+                    .map(pid -> pid + ProcessHandle.of(pid).flatMap(handle -> handle.info().startInstant())
+                            .map(started -> " " + started.toEpochMilli()).orElse(""))
+                    .collect(Collectors.toList());
+            Files.write(pidFile.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.out.println("Failed to write browser PID file: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Kill browser/driver processes left behind by earlier runs whose JVM is gone
+     */
+    private static void reapPreviousRuns() {
+        File[] files = pidFile.getParentFile().listFiles((dir, name) -> name.startsWith(PID_FILE_PREFIX));
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String ownerPid = file.getName().substring(PID_FILE_PREFIX.length()).replace(".txt", "");
+            if (ProcessHandle.of(Long.parseLong(ownerPid)).map(ProcessHandle::isAlive).orElse(false)) {
+                continue;
+            }
+            try {
+                for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                    String[] fields = line.trim().split("\\s+");
+                    long pid = Long.parseLong(fields[0]);
+                    Long recordedStart = fields.length > 1 ? Long.valueOf(fields[1]) : null;
+                    if (isRecordedProcess(pid, recordedStart, file.lastModified())) {
+                        spawnedPids.add(pid);
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                System.out.println("Failed to read browser PID file " + file + ": " + e.getMessage());
+            }
+            file.delete();
+        }
+        killSurvivors();
+    }
+    
+    /**
+     * Check that a live process with a PID from an earlier run is the one that run recorded: it
+     * started at the recorded time, or for PID files without start times, before the file was last
+     * written. After a reboot or PID wrap-around the PID may belong to an unrelated browser
+     */
+    private static boolean isRecordedProcess(long pid, Long recordedStart, long pidFileModified) {
+        Optional<Instant> started = ProcessHandle.of(pid).flatMap(handle -> handle.info().startInstant());
+        if (started.isEmpty()) {
+            return false;
+        }
+        if (recordedStart != null) {
+            return Math.abs(started.get().toEpochMilli() - recordedStart) < START_TIME_TOLERANCE_MILLIS;
+        }
+        return !started.get().isAfter(Instant.ofEpochMilli(pidFileModified));
+    }
+    
+    private static boolean isBrowserProcess(ProcessHandle handle) {
+        String command = handle.info().command().orElse("").toLowerCase(Locale.ROOT);
+        String executable = new File(command).getName();
+        for (String name : BROWSER_PROCESS_NAMES) {
+            if (executable.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Semaphore whose permit count can be reduced while permits are held
+     */
+    private static class ResizableSemaphore extends Semaphore {
+        
+        private static final long serialVersionUID = 1L;
+        
+        ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+        
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.utils.CommandMetrics;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * WebDriver listener timing every remote command (findElement, click, sendKeys, getTitle,
+ * executeScript, getScreenshotAs, ...) into CommandMetrics
+ */
+public class CommandLatencyListener implements WebDriverListener {
+    
+    // Calls answered locally by the decorator without a round trip to the driver
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "navigate", "switchTo", "timeouts", "window",
+            "getWrappedDriver", "getWrappedElement", "equals", "hashCode", "toString");
+    
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+    
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            startTimes.get().push(System.nanoTime());
+        }
+    }
+    
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+    
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+    
+    private void finish(Method method) {
+        Deque<Long> starts = startTimes.get();
+        if (LOCAL_CALLS.contains(method.getName()) || starts.isEmpty()) {
+            return;
+        }
+        CommandMetrics.record(method.getName(), System.nanoTime() - starts.pop());
+    }
+}
@@ -0,0 +1,174 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.manager.SeleniumManager;
+import org.openqa.selenium.manager.SeleniumManagerOutput;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Driver Binary Resolver class to resolve browser and driver binaries once per JVM and
+ * cache them on disk, keyed by browser version, so later runs never call Selenium Manager
+ */
+public class DriverBinaryResolver {
+    
+    private static final String CACHE_FILE_NAME = "driver-binaries.properties";
+    private static final Pattern VERSION_PATTERN = Pattern.compile("\\d+(\\.\\d+)+");
+    private static final Map<String, Binaries> resolved = new ConcurrentHashMap<>();
+    
+    /**
+     * Get browser and driver binaries for the options' browser, or null if caching is disabled
+     */
+    public static Binaries resolve(Capabilities options) {
+        if (!ConfigReader.isDriverCacheEnabled()) {
+            return null;
+        }
+        return resolved.computeIfAbsent(options.getBrowserName(), browserName -> resolveOnce(browserName, options));
+    }
+    
+    private static Binaries resolveOnce(String browserName, Capabilities options) {
+        long start = System.currentTimeMillis();
+        Properties cache = loadCache();
+        String cachedDriverPath = cache.getProperty(browserName + ".driver.path");
+        String cachedBrowserPath = cache.getProperty(browserName + ".browser.path", "");
+        String cachedVersion = cache.getProperty(browserName + ".browser.version");
+        
+        String installedVersion = detectBrowserVersion(cachedBrowserPath);
+        if (cachedDriverPath != null && new File(cachedDriverPath).canExecute()
+                && installedVersion != null && installedVersion.equals(cachedVersion)) {
+            long elapsed = System.currentTimeMillis() - start;
+            System.out.println("Driver binaries for " + browserName + " " + cachedVersion + " loaded from cache in " + elapsed + "ms");
+            MetricsCollector.increment("driver.binary.cache.hits");
+            MetricsCollector.recordTime("driver.binary.resolve.time", elapsed);
+            return new Binaries(cachedDriverPath, cachedBrowserPath);
+        }
+        
+        SeleniumManagerOutput.Result result;
+        try {
+            result = SeleniumManager.getInstance().getDriverPath(options, false);
+        } catch (WebDriverException e) {
+            if (cachedDriverPath != null && new File(cachedDriverPath).canExecute()) {
+                // Offline and the browser version could not be confirmed - the cached driver is the best guess
+                System.out.println("Selenium Manager unavailable, using cached " + browserName + " driver: " + e.getMessage());
+                return new Binaries(cachedDriverPath, cachedBrowserPath);
+            }
+            throw new WebDriverException("Cannot resolve " + browserName + " driver: no cached binaries and Selenium Manager failed", e);
+        }
+        
+        String browserPath = result.getBrowserPath() == null ? "" : result.getBrowserPath();
+        cache.setProperty(browserName + ".driver.path", result.getDriverPath());
+        cache.setProperty(browserName + ".browser.path", browserPath);
+        String version = detectBrowserVersion(browserPath);
+        if (version != null) {
+            cache.setProperty(browserName + ".browser.version", version);
+        }
+        saveCache(cache);
+        
+        long elapsed = System.currentTimeMillis() - start;
+        System.out.println("Driver binaries for " + browserName + " " + version + " resolved by Selenium Manager in " + elapsed + "ms");
+        MetricsCollector.increment("driver.binary.cache.misses");
+        MetricsCollector.recordTime("driver.binary.resolve.time", elapsed);
+        return new Binaries(result.getDriverPath(), browserPath);
+    }
+    
+    /**
+     * Read the installed browser version, falling back to the binary's modification time
+     * on platforms where the browser does not print its version
+     */
+    private static String detectBrowserVersion(String browserPath) {
+        if (browserPath == null || browserPath.isEmpty() || !new File(browserPath).exists()) {
+            return null;
+        }
+        if (System.getProperty("os.name").toLowerCase().contains("win")) {
+            // chrome.exe/msedge.exe --version opens a browser window instead of printing
+            return "mtime-" + new File(browserPath).lastModified();
+        }
+        try {
+            Process process = new ProcessBuilder(browserPath, "--version").redirectErrorStream(true).start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            if (process.waitFor(10, TimeUnit.SECONDS)) {
+                Matcher matcher = VERSION_PATTERN.matcher(output);
+                if (matcher.find()) {
+                    return matcher.group();
+                }
+            } else {
+                process.destroyForcibly();
+            }
+        } catch (IOException e) {
+            // Fall through to modification time
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "mtime-" + new File(browserPath).lastModified();
+    }
+    
+    private static File getCacheFile() {
+        return new File(ConfigReader.getDriverCacheDirectory(), CACHE_FILE_NAME);
+    }
+    
+    private static synchronized Properties loadCache() {
+        Properties cache = new Properties();
+        File cacheFile = getCacheFile();
+        if (cacheFile.exists()) {
+            try (InputStream in = new FileInputStream(cacheFile)) {
+                cache.load(in);
+            } catch (IOException e) {
+                System.out.println("Failed to read driver binary cache: " + e.getMessage());
+            }
+        }
+        return cache;
+    }
+    
+    private static synchronized void saveCache(Properties cache) {
+        File cacheFile = getCacheFile();
+        cacheFile.getParentFile().mkdirs();
+        try (OutputStream out = new FileOutputStream(cacheFile)) {
+            cache.store(out, "Resolved browser and driver binaries");
+        } catch (IOException e) {
+            System.out.println("Failed to write driver binary cache: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Resolved driver executable and browser binary paths
+     */
+    public static class Binaries {
+        private final String driverPath;
+        private final String browserPath;
+        
+        Binaries(String driverPath, String browserPath) {
+            this.driverPath = driverPath;
+            this.browserPath = browserPath;
+        }
+        
+        public File getDriverExecutable() {
+            return new File(driverPath);
+        }
+        
+        public String getBrowserPath() {
+            return browserPath;
+        }
+        
+        public boolean hasBrowserPath() {
+            return browserPath != null && !browserPath.isEmpty();
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.qa.orangehrm.factory;
 
 import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
 // import io.github.bonigarcia.wdm.WebDriverManager; // Commented out - using Selenium Manager instead
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.io.File;
 
 /**
  * Driver Factory class to create and manage WebDriver instances
@@ -18,67 +25,202 @@ import org.openqa.selenium.safari.SafariOptions;
 public class DriverFactory {
     
     private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static DriverPool driverPool;
     
     /**
      * Initialize WebDriver based on configuration
      */
     public static WebDriver initDriver() {
-        String browserName = ConfigReader.getBrowserName();
-        
         if (driver.get() == null) {
-            switch (browserName.toLowerCase()) {
-                case "chrome":
-                    // Using Selenium Manager (built-in WebDriver management)
-                    ChromeOptions chromeOptions = new ChromeOptions();
-                    if (ConfigReader.isHeadless()) {
-                        chromeOptions.addArguments("--headless");
-                    }
-                    chromeOptions.addArguments("--no-sandbox");
-                    chromeOptions.addArguments("--disable-dev-shm-usage");
-                    chromeOptions.addArguments("--disable-gpu");
-                    chromeOptions.addArguments("--window-size=1920,1080");
-                    driver.set(new ChromeDriver(chromeOptions));
-                    break;
-                    
-                case "firefox":
-                    // Using Selenium Manager (built-in WebDriver management)
-                    FirefoxOptions firefoxOptions = new FirefoxOptions();
-                    if (ConfigReader.isHeadless()) {
-                        firefoxOptions.addArguments("--headless");
-                    }
-                    driver.set(new FirefoxDriver(firefoxOptions));
-                    break;
-                    
-                case "edge":
-                    // Using Selenium Manager (built-in WebDriver management)
-                    EdgeOptions edgeOptions = new EdgeOptions();
-                    if (ConfigReader.isHeadless()) {
-                        edgeOptions.addArguments("--headless");
-                    }
-                    driver.set(new EdgeDriver(edgeOptions));
-                    break;
-                    
-                case "safari":
-                    SafariOptions safariOptions = new SafariOptions();
-                    driver.set(new SafariDriver(safariOptions));
-                    break;
-                    
-                default:
-                    throw new IllegalArgumentException("Browser " + browserName + " is not supported");
+            if (ConfigReader.isDriverPoolEnabled()) {
+                driver.set(getDriverPool().lease());
+            } else if (ConfigReader.isDriverPrelaunchEnabled()) {
+                // Use the browser launched during the previous test, then start the next one
+                WebDriver prelaunched = BackgroundDriverExecutor.takePrelaunched();
+                driver.set(prelaunched != null ? prelaunched : createDriver());
+                BackgroundDriverExecutor.prelaunch();
+            } else {
+                driver.set(createDriver());
             }
-            
-            // Set timeouts
-            driver.get().manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(ConfigReader.getImplicitWait()));
-            driver.get().manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
-            driver.get().manage().timeouts().scriptTimeout(java.time.Duration.ofSeconds(ConfigReader.getScriptTimeout()));
-            
-            // Maximize window
-            driver.get().manage().window().maximize();
         }
         
         return driver.get();
     }
     
+    /**
+     * Create a new WebDriver instance based on configuration
+     */
+    public static WebDriver createDriver() {
+        return createDriver(DriverServiceManager.isEnabled());
+    }
+    
+    /**
+     * Create a new WebDriver instance, optionally on a reused driver service
+     */
+    public static WebDriver createDriver(boolean reuseDriverService) {
+        long start = System.currentTimeMillis();
+        
+        // Queue for a permit instead of oversubscribing the machine
+        BrowserResourceManager.acquire();
+        return launchAdmitted(reuseDriverService, start);
+    }
+    
+    /**
+     * Create a new WebDriver instance on a browser permit the caller already holds
+     */
+    static WebDriver createAdmittedDriver() {
+        return launchAdmitted(DriverServiceManager.isEnabled(), System.currentTimeMillis());
+    }
+    
+    private static WebDriver launchAdmitted(boolean reuseDriverService, long start) {
+        WebDriver webDriver;
+        try {
+            webDriver = launchBrowser(reuseDriverService);
+        } catch (RuntimeException e) {
+            BrowserResourceManager.releaseUnregistered();
+            throw e;
+        }
+        BrowserResourceManager.register(webDriver);
+        
+        // Block images, fonts and third-party scripts (Chromium only)
+        if (ConfigReader.isResourceBlockingEnabled()) {
+            NetworkResourceBlocker.enable(webDriver);
+        }
+        
+        // Track in-flight requests for network-idle page readiness (Chromium only)
+        if (ConfigReader.isNetworkIdleWaitEnabled()) {
+            NetworkIdleMonitor.attach(webDriver);
+        }
+        
+        // Set timeouts
+        webDriver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(ConfigReader.getImplicitWait()));
+        webDriver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
+        webDriver.manage().timeouts().scriptTimeout(java.time.Duration.ofSeconds(ConfigReader.getScriptTimeout()));
+        
+        // Maximize window
+        webDriver.manage().window().maximize();
+        
+        // Time every WebDriver command (driver.command.metrics)
+        if (ConfigReader.isCommandMetricsEnabled()) {
+            webDriver = new EventFiringDecorator<>(new CommandLatencyListener()).decorate(webDriver);
+        }
+        
+        MetricsCollector.recordTime(reuseDriverService ? "driver.session.create.time.reused.service"
+                : "driver.session.create.time.new.service", System.currentTimeMillis() - start);
+        return webDriver;
+    }
+    
+    /**
+     * Launch browser session based on configuration
+     */
+    private static WebDriver launchBrowser(boolean reuseDriverService) {
+        String browserName = ConfigReader.getBrowserName();
+        WebDriver webDriver;
+        
+        switch (browserName.toLowerCase()) {
+            case "chrome":
+                // Using Selenium Manager (built-in WebDriver management), cached by DriverBinaryResolver
+                ChromeOptions chromeOptions = new ChromeOptions();
+                if (ConfigReader.isHeadless()) {
+                    chromeOptions.addArguments("--headless");
+                }
+                chromeOptions.addArguments("--no-sandbox");
+                chromeOptions.addArguments("--disable-dev-shm-usage");
+                chromeOptions.addArguments("--disable-gpu");
+                chromeOptions.addArguments("--window-size=1920,1080");
+                File chromeDriverExecutable = applyCachedBinaries(chromeOptions);
+                webDriver = new ChromeDriver(reuseDriverService
+                        ? DriverServiceManager.getChromeDriverService(chromeDriverExecutable)
+                        : DriverServiceManager.newChromeDriverService(chromeDriverExecutable), chromeOptions);
+                break;
+                
+            case "firefox":
+                // Using Selenium Manager (built-in WebDriver management), cached by DriverBinaryResolver
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                if (ConfigReader.isHeadless()) {
+                    firefoxOptions.addArguments("--headless");
+                }
+                File geckoDriverExecutable = applyCachedBinaries(firefoxOptions);
+                webDriver = new FirefoxDriver(reuseDriverService
+                        ? DriverServiceManager.getGeckoDriverService(geckoDriverExecutable)
+                        : DriverServiceManager.newGeckoDriverService(geckoDriverExecutable), firefoxOptions);
+                break;
+                
+            case "edge":
+                // Using Selenium Manager (built-in WebDriver management), cached by DriverBinaryResolver
+                EdgeOptions edgeOptions = new EdgeOptions();
+                if (ConfigReader.isHeadless()) {
+                    edgeOptions.addArguments("--headless");
+                }
+                File edgeDriverExecutable = applyCachedBinaries(edgeOptions);
+                webDriver = new EdgeDriver(reuseDriverService
+                        ? DriverServiceManager.getEdgeDriverService(edgeDriverExecutable)
+                        : DriverServiceManager.newEdgeDriverService(edgeDriverExecutable), edgeOptions);
+                break;
+                
+            case "safari":
+                SafariOptions safariOptions = new SafariOptions();
+                webDriver = new SafariDriver(safariOptions);
+                break;
+                
+            default:
+                throw new IllegalArgumentException("Browser " + browserName + " is not supported");
+        }
+        
+        return webDriver;
+    }
+    
+    /**
+     * Point the options at the cached browser binary and return the cached driver executable,
+     * or null to let Selenium Manager resolve it
+     */
+    private static File applyCachedBinaries(ChromiumOptions<?> options) {
+        DriverBinaryResolver.Binaries binaries = DriverBinaryResolver.resolve(options);
+        if (binaries == null) {
+            return null;
+        }
+        if (binaries.hasBrowserPath()) {
+            options.setBinary(binaries.getBrowserPath());
+        }
+        return binaries.getDriverExecutable();
+    }
+    
+    /**
+     * Point the options at the cached browser binary and return the cached driver executable,
+     * or null to let Selenium Manager resolve it
+     */
+    private static File applyCachedBinaries(FirefoxOptions options) {
+        DriverBinaryResolver.Binaries binaries = DriverBinaryResolver.resolve(options);
+        if (binaries == null) {
+            return null;
+        }
+        if (binaries.hasBrowserPath()) {
+            options.setBinary(binaries.getBrowserPath());
+        }
+        return binaries.getDriverExecutable();
+    }
+    
+    /**
+     * Get shared driver pool, creating it on first use
+     */
+    public static synchronized DriverPool getDriverPool() {
+        if (driverPool == null) {
+            driverPool = new DriverPool(ConfigReader.getDriverPoolSize(),
+                    ConfigReader.getDriverPoolMaxLeases(),
+                    ConfigReader.getDriverPoolLeaseTimeout());
+        }
+        return driverPool;
+    }
+    
+    /**
+     * Pre-launch pooled browsers when pooling is enabled
+     */
+    public static void warmUpPool() {
+        if (ConfigReader.isDriverPoolEnabled()) {
+            getDriverPool().warmUp();
+        }
+    }
+    
     /**
      * Get current WebDriver instance
      */
@@ -90,12 +232,75 @@ public class DriverFactory {
      * Quit and remove WebDriver instance
      */
     public static void quitDriver() {
-        if (driver.get() != null) {
-            driver.get().quit();
+        WebDriver webDriver = driver.get();
+        if (webDriver != null) {
+            if (driverPool == null || !driverPool.release(webDriver)) {
+                if (ConfigReader.isDriverAsyncQuitEnabled()) {
+                    BackgroundDriverExecutor.quitAsync(webDriver);
+                } else {
+                    quitBrowser(webDriver);
+                }
+            }
             driver.remove();
         }
     }
     
+    /**
+     * Quit the current thread's WebDriver without returning it to the pool, e.g. when its
+     * session is suspected broken
+     */
+    public static void discardDriver() {
+        WebDriver webDriver = driver.get();
+        if (webDriver != null) {
+            if (driverPool == null || !driverPool.evict(webDriver)) {
+                try {
+                    quitBrowser(webDriver);
+                } catch (WebDriverException e) {
+                    System.out.println("Failed to quit discarded driver: " + e.getMessage());
+                }
+            }
+            driver.remove();
+        }
+    }
+    
+    /**
+     * Quit a WebDriver instance and release its browser permit
+     */
+    public static void quitBrowser(WebDriver webDriver) {
+        try {
+            webDriver.quit();
+        } finally {
+            BrowserResourceManager.release(unwrap(webDriver));
+            NetworkResourceBlocker.remove(unwrap(webDriver));
+            NetworkIdleMonitor.remove(unwrap(webDriver));
+        }
+    }
+    
+    /**
+     * Get the browser driver behind a decorated WebDriver, or the driver itself
+     */
+    public static WebDriver unwrap(WebDriver webDriver) {
+        while (webDriver instanceof WrapsDriver) {
+            webDriver = ((WrapsDriver) webDriver).getWrappedDriver();
+        }
+        return webDriver;
+    }
+    
+    /**
+     * Quit pooled and pre-launched WebDriver instances, wait for background quits,
+     * stop driver services and kill any surviving browser processes at the end of the suite
+     */
+    public static synchronized void shutdown() {
+        if (driverPool != null) {
+            driverPool.shutdown();
+            driverPool = null;
+        }
+        BackgroundDriverExecutor.shutdown();
+        DriverServiceManager.shutdown();
+        BrowserResourceManager.saveFootprint();
+        BrowserResourceManager.killSurvivors();
+    }
+    
     /**
      * Close current browser window
      */
@@ -0,0 +1,249 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Driver Pool class to lease pre-launched WebDriver instances to tests
+ */
+public class DriverPool {
+    
+    private final int size;
+    private final int maxLeases;
+    private final long leaseTimeoutSeconds;
+    private final BlockingDeque<PooledDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledDriver> leasedDrivers = new ConcurrentHashMap<>();
+    private final AtomicInteger liveDrivers = new AtomicInteger();
+    private volatile boolean shutdown;
+    
+    public DriverPool(int size, int maxLeases, long leaseTimeoutSeconds) {
+        this.size = Math.max(1, size);
+        this.maxLeases = Math.max(1, maxLeases);
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+    }
+    
+    /**
+     * Pre-launch browsers until the pool is full
+     */
+    public void warmUp() {
+        List<Future<?>> launches = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(size);
+        try {
+            while (reserveSlot()) {
+                launches.add(executor.submit(() -> {
+                    DriverServiceManager.useBackgroundScope();
+                    try {
+                        idleDrivers.offerLast(launch());
+                    } catch (RuntimeException e) {
+                        liveDrivers.decrementAndGet();
+                        System.out.println("Driver pool warm-up launch failed: " + e.getMessage());
+                    }
+                }));
+            }
+            for (Future<?> launch : launches) {
+                launch.get();
+            }
+        } catch (Exception e) {
+            System.out.println("Driver pool warm-up interrupted: " + e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+        System.out.println("Driver pool warmed up with " + idleDrivers.size() + " browser(s)");
+    }
+    
+    /**
+     * Lease a healthy WebDriver instance from the pool
+     */
+    public WebDriver lease() {
+        if (shutdown) {
+            throw new IllegalStateException("Driver pool has been shut down");
+        }
+        long start = System.currentTimeMillis();
+        boolean hit = true;
+        PooledDriver pooled = null;
+        try {
+            while (pooled == null) {
+                pooled = idleDrivers.pollFirst();
+                if (pooled == null) {
+                    hit = false;
+                    if (reserveSlot()) {
+                        try {
+                            pooled = launch();
+                        } catch (RuntimeException e) {
+                            liveDrivers.decrementAndGet();
+                            throw e;
+                        }
+                    } else {
+                        long remaining = TimeUnit.SECONDS.toMillis(leaseTimeoutSeconds) - (System.currentTimeMillis() - start);
+                        if (remaining <= 0) {
+                            throw new IllegalStateException("Timed out after " + leaseTimeoutSeconds + "s waiting for a pooled driver");
+                        }
+                        pooled = idleDrivers.pollFirst(remaining, TimeUnit.MILLISECONDS);
+                        continue;
+                    }
+                }
+                if (!isHealthy(pooled.driver)) {
+                    MetricsCollector.increment("driver.pool.health.failures");
+                    discard(pooled);
+                    pooled = null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled driver", e);
+        }
+        
+        pooled.leases++;
+        leasedDrivers.put(pooled.driver, pooled);
+        MetricsCollector.increment(hit ? "driver.pool.hits" : "driver.pool.misses");
+        MetricsCollector.recordTime("driver.pool.lease.wait", System.currentTimeMillis() - start);
+        return pooled.driver;
+    }
+    
+    /**
+     * Return a leased WebDriver instance to the pool
+     */
+    public boolean release(WebDriver driver) {
+        PooledDriver pooled = leasedDrivers.remove(driver);
+        if (pooled == null) {
+            return false;
+        }
+        if (shutdown || pooled.leases >= maxLeases) {
+            MetricsCollector.increment("driver.pool.recycled");
+            discard(pooled);
+            return true;
+        }
+        try {
+            resetState(pooled.driver);
+            idleDrivers.offerFirst(pooled);
+        } catch (WebDriverException e) {
+            System.out.println("Driver pool reset failed, discarding browser: " + e.getMessage());
+            MetricsCollector.increment("driver.pool.reset.failures");
+            discard(pooled);
+        }
+        return true;
+    }
+    
+    /**
+     * Quit a leased WebDriver instance instead of returning it to the pool
+     */
+    public boolean evict(WebDriver driver) {
+        PooledDriver pooled = leasedDrivers.remove(driver);
+        if (pooled == null) {
+            return false;
+        }
+        MetricsCollector.increment("driver.pool.evicted");
+        discard(pooled);
+        return true;
+    }
+    
+    /**
+     * Check if the WebDriver instance is managed by this pool
+     */
+    public boolean isLeased(WebDriver driver) {
+        return leasedDrivers.containsKey(driver);
+    }
+    
+    /**
+     * Quit all pooled WebDriver instances
+     */
+    public void shutdown() {
+        shutdown = true;
+        List<PooledDriver> drivers = new ArrayList<>(leasedDrivers.values());
+        leasedDrivers.clear();
+        idleDrivers.drainTo(drivers);
+        for (PooledDriver pooled : drivers) {
+            discard(pooled);
+        }
+    }
+    
+    private boolean reserveSlot() {
+        while (true) {
+            int current = liveDrivers.get();
+            if (current >= size) {
+                return false;
+            }
+            if (liveDrivers.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    private PooledDriver launch() {
+        long start = System.currentTimeMillis();
+        WebDriver driver = DriverFactory.createDriver();
+        MetricsCollector.increment("driver.pool.launches");
+        MetricsCollector.recordTime("driver.pool.launch.time", System.currentTimeMillis() - start);
+        return new PooledDriver(driver);
+    }
+    
+    private void discard(PooledDriver pooled) {
+        liveDrivers.decrementAndGet();
+        try {
+            DriverFactory.quitBrowser(pooled.driver);
+        } catch (WebDriverException e) {
+            System.out.println("Failed to quit pooled driver: " + e.getMessage());
+        }
+    }
+    
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Clear cookies, storage and extra windows so the next lease starts clean
+     */
+    private void resetState(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        String mainHandle = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(mainHandle)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(mainHandle);
+        
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        driver.manage().deleteAllCookies();
+        WebDriver browser = DriverFactory.unwrap(driver);
+        if (browser instanceof ChromiumDriver) {
+            // WebDriver only deletes cookies of the current domain
+            ((ChromiumDriver) browser).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        }
+        driver.get("about:blank");
+    }
+    
+    /**
+     * WebDriver instance with its lease count
+     */
+    private static class PooledDriver {
+        private final WebDriver driver;
+        private int leases;
+        
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Driver Service Manager class to keep chromedriver/geckodriver/msedgedriver processes
+ * alive across sessions instead of starting one per browser launch
+ */
+public class DriverServiceManager {
+    
+    private static final Map<String, DriverService> services = new ConcurrentHashMap<>();
+    // Launcher and pool warm-up threads only start browsers for test threads, so they share one service
+    private static final ThreadLocal<Boolean> backgroundScope = ThreadLocal.withInitial(() -> false);
+    
+    /**
+     * Check if driver services should be reused
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.isDriverServiceReuseEnabled();
+    }
+    
+    /**
+     * Mark the current thread as a background launcher: with driver.service.scope=thread it uses the
+     * service shared by all launcher threads instead of starting one of its own that no test reuses
+     */
+    public static void useBackgroundScope() {
+        backgroundScope.set(true);
+    }
+    
+    /**
+     * Get reusable ChromeDriverService for the current scope
+     */
+    public static ChromeDriverService getChromeDriverService(File driverExecutable) {
+        return (ChromeDriverService) services.computeIfAbsent(scopedKey("chrome"), key -> start(build(new ChromeDriverService.Builder() {
+            @Override
+            protected ChromeDriverService createDriverService(File exe, int port, Duration timeout,
+                                                              List<String> args, Map<String, String> environment) {
+                try {
+                    return new ReusableChromeDriverService(exe, port, timeout, args, environment);
+                } catch (IOException e) {
+                    throw new WebDriverException(e);
+                }
+            }
+        }, driverExecutable)));
+    }
+    
+    /**
+     * Get reusable EdgeDriverService for the current scope
+     */
+    public static EdgeDriverService getEdgeDriverService(File driverExecutable) {
+        return (EdgeDriverService) services.computeIfAbsent(scopedKey("edge"), key -> start(build(new EdgeDriverService.Builder() {
+            @Override
+            protected EdgeDriverService createDriverService(File exe, int port, Duration timeout,
+                                                            List<String> args, Map<String, String> environment) {
+                try {
+                    return new ReusableEdgeDriverService(exe, port, timeout, args, environment);
+                } catch (IOException e) {
+                    throw new WebDriverException(e);
+                }
+            }
+        }, driverExecutable)));
+    }
+    
+    /**
+     * Get GeckoDriverService for a new session. geckodriver only serves one session at a time,
+     * so the shared service is handed out only while it is idle; otherwise a dedicated
+     * service is returned which the driver stops on quit.
+     */
+    public static GeckoDriverService getGeckoDriverService(File driverExecutable) {
+        ReusableGeckoDriverService service = (ReusableGeckoDriverService) services.computeIfAbsent(scopedKey("firefox"),
+                key -> start(build(new GeckoDriverService.Builder() {
+                    @Override
+                    protected GeckoDriverService createDriverService(File exe, int port, Duration timeout,
+                                                                     List<String> args, Map<String, String> environment) {
+                        try {
+                            return new ReusableGeckoDriverService(exe, port, timeout, args, environment);
+                        } catch (IOException e) {
+                            throw new WebDriverException(e);
+                        }
+                    }
+                }, driverExecutable)));
+        if (service.activeSessions.compareAndSet(0, 1)) {
+            return service;
+        }
+        MetricsCollector.increment("driver.service.dedicated");
+        return newGeckoDriverService(driverExecutable);
+    }
+    
+    /**
+     * Create a single-session ChromeDriverService which the driver stops on quit
+     */
+    public static ChromeDriverService newChromeDriverService(File driverExecutable) {
+        return buildSingleSession(new ChromeDriverService.Builder(), driverExecutable);
+    }
+    
+    /**
+     * Create a single-session EdgeDriverService which the driver stops on quit
+     */
+    public static EdgeDriverService newEdgeDriverService(File driverExecutable) {
+        return buildSingleSession(new EdgeDriverService.Builder(), driverExecutable);
+    }
+    
+    /**
+     * Create a single-session GeckoDriverService which the driver stops on quit
+     */
+    public static GeckoDriverService newGeckoDriverService(File driverExecutable) {
+        return buildSingleSession(new GeckoDriverService.Builder(), driverExecutable);
+    }
+    
+    /**
+     * Stop all reusable driver services
+     */
+    public static void shutdown() {
+        List<DriverService> running = new ArrayList<>(services.values());
+        services.clear();
+        for (DriverService service : running) {
+            try {
+                if (service instanceof ReusableChromeDriverService) {
+                    ((ReusableChromeDriverService) service).shutdown();
+                } else if (service instanceof ReusableEdgeDriverService) {
+                    ((ReusableEdgeDriverService) service).shutdown();
+                } else if (service instanceof ReusableGeckoDriverService) {
+                    ((ReusableGeckoDriverService) service).shutdown();
+                }
+            } catch (WebDriverException e) {
+                System.out.println("Failed to stop driver service: " + e.getMessage());
+            }
+        }
+        if (!running.isEmpty()) {
+            System.out.println("Stopped " + running.size() + " driver service(s)");
+        }
+    }
+    
+    /**
+     * Build the service key for the configured scope (thread or suite); background launcher
+     * threads share one key
+     */
+    private static String scopedKey(String browserName) {
+        if ("suite".equalsIgnoreCase(ConfigReader.getDriverServiceScope())) {
+            return browserName;
+        }
+        if (backgroundScope.get()) {
+            return browserName + "-background";
+        }
+        return browserName + "-" + Thread.currentThread().getId();
+    }
+    
+    /**
+     * Build service, using the cached driver executable when one was resolved
+     */
+    private static <S extends DriverService, B extends DriverService.Builder<S, B>> S build(B builder, File driverExecutable) {
+        if (driverExecutable != null) {
+            builder.usingDriverExecutable(driverExecutable);
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Build a service for one session, counted in driver.service.single.session
+     */
+    private static <S extends DriverService, B extends DriverService.Builder<S, B>> S buildSingleSession(B builder, File driverExecutable) {
+        MetricsCollector.increment("driver.service.single.session");
+        return build(builder, driverExecutable);
+    }
+    
+    private static <T extends DriverService> T start(T service) {
+        long start = System.currentTimeMillis();
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new WebDriverException("Failed to start driver service", e);
+        }
+        MetricsCollector.increment("driver.service.starts");
+        MetricsCollector.recordTime("driver.service.start.time", System.currentTimeMillis() - start);
+        return service;
+    }
+    
+    /**
+     * ChromeDriverService that survives driver.quit()
+     */
+    private static class ReusableChromeDriverService extends ChromeDriverService {
+        
+        ReusableChromeDriverService(File exe, int port, Duration timeout, List<String> args,
+                                    Map<String, String> environment) throws IOException {
+            super(exe, port, timeout, args, environment);
+        }
+        
+        @Override
+        public void stop() {
+            // Called by the driver on quit - keep the service running for the next session
+        }
+        
+        void shutdown() {
+            super.stop();
+        }
+    }
+    
+    /**
+     * EdgeDriverService that survives driver.quit()
+     */
+    private static class ReusableEdgeDriverService extends EdgeDriverService {
+        
+        ReusableEdgeDriverService(File exe, int port, Duration timeout, List<String> args,
+                                  Map<String, String> environment) throws IOException {
+            super(exe, port, timeout, args, environment);
+        }
+        
+        @Override
+        public void stop() {
+            // Called by the driver on quit - keep the service running for the next session
+        }
+        
+        void shutdown() {
+            super.stop();
+        }
+    }
+    
+    /**
+     * GeckoDriverService that survives driver.quit() and tracks its single active session
+     */
+    private static class ReusableGeckoDriverService extends GeckoDriverService {
+        
+        private final AtomicInteger activeSessions = new AtomicInteger();
+        
+        ReusableGeckoDriverService(File exe, int port, Duration timeout, List<String> args,
+                                   Map<String, String> environment) throws IOException {
+            super(exe, port, timeout, args, environment);
+        }
+        
+        @Override
+        public void stop() {
+            // Called by the driver on quit - release the session slot and keep the service running
+            activeSessions.set(0);
+        }
+        
+        void shutdown() {
+            super.stop();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import com.qa.orangehrm.utils.WaitProfiler;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Network Idle Monitor class to track in-flight requests through DevTools network events
+ * and wait until the page is ready: document complete and no requests for a quiet window
+ */
+public class NetworkIdleMonitor {
+    
+    private static final long POLLING_MILLIS = 50;
+    
+    private static final Map<WebDriver, NetworkState> states = new ConcurrentHashMap<>();
+    private static final ThreadLocal<ReadinessStats> testStats = ThreadLocal.withInitial(ReadinessStats::new);
+    
+    /**
+     * Start tracking requests of the browser if it supports DevTools
+     */
+    public static void attach(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            System.out.println("Network idle tracking requires a Chromium browser, waiting on document.readyState only for "
+                    + driver.getClass().getSimpleName());
+            return;
+        }
+        NetworkState state = new NetworkState();
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            
+            devTools.addListener(new Event<Map<String, Object>>("Network.requestWillBeSent", input -> input.read(Json.MAP_TYPE)),
+                    params -> state.started(String.valueOf(params.get("requestId"))));
+            devTools.addListener(new Event<Map<String, Object>>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE)),
+                    params -> state.finished(String.valueOf(params.get("requestId"))));
+            devTools.addListener(new Event<Map<String, Object>>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE)),
+                    params -> state.finished(String.valueOf(params.get("requestId"))));
+            
+            devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+            states.put(driver, state);
+        } catch (RuntimeException e) {
+            System.out.println("Failed to enable network idle tracking: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Wait until document.readyState is complete and no request has been in flight for
+     * browser.network.idle.quiet.ms, or browser.network.idle.timeout runs out; returns the time waited
+     */
+    public static long waitForIdle(WebDriver driver) {
+        NetworkState state = states.get(DriverFactory.unwrap(driver));
+        long quietNanos = ConfigReader.getNetworkIdleQuietMillis() * 1_000_000L;
+        long start = System.currentTimeMillis();
+        long deadline = start + ConfigReader.getNetworkIdleTimeout() * 1000L;
+        // Requests triggered by the last action may not have started yet, so the window starts now at the earliest
+        long waitStartNanos = System.nanoTime();
+        boolean ready;
+        while (!(ready = isNetworkQuiet(state, waitStartNanos, quietNanos) && isDocumentComplete(driver))) {
+            if (System.currentTimeMillis() >= deadline) {
+                break;
+            }
+            sleep(POLLING_MILLIS);
+        }
+        long waited = System.currentTimeMillis() - start;
+        MetricsCollector.recordTime("page.ready.time", waited);
+        if (!ready) {
+            MetricsCollector.increment("page.ready.timeouts");
+            System.out.println("Page not idle after " + waited + "ms"
+                    + (state == null ? "" : ", " + state.inFlight.size() + " request(s) in flight"));
+        }
+        testStats.get().record(waited, ready);
+        if (WaitProfiler.isEnabled()) {
+            // Ready since the last request finished; the quiet window after it is the price of confirming that
+            WaitProfiler.record("page load (network idle)", waited, !ready ? -1
+                    : state == null ? waited : getIdleSinceMillis(state, waitStartNanos));
+        }
+        return waited;
+    }
+    
+    /**
+     * Sleep for sleepMillis as a fixed page-load wait does, watching for the moment the page
+     * became idle so the wait profiler can report the part of the sleep that was not needed
+     */
+    public static void sleepProfiled(WebDriver driver, long sleepMillis) {
+        NetworkState state = states.get(DriverFactory.unwrap(driver));
+        long quietNanos = ConfigReader.getNetworkIdleQuietMillis() * 1_000_000L;
+        long start = System.currentTimeMillis();
+        long waitStartNanos = System.nanoTime();
+        long readyAfter = -1;
+        long elapsed;
+        while ((elapsed = System.currentTimeMillis() - start) < sleepMillis) {
+            if (readyAfter < 0 && isNetworkQuiet(state, waitStartNanos, quietNanos) && isDocumentComplete(driver)) {
+                readyAfter = state == null ? elapsed : getIdleSinceMillis(state, waitStartNanos);
+            }
+            sleep(readyAfter < 0 ? Math.min(POLLING_MILLIS, sleepMillis - elapsed) : sleepMillis - elapsed);
+        }
+        WaitProfiler.record("page load (fixed sleep)", System.currentTimeMillis() - start, readyAfter);
+    }
+    
+    /**
+     * Get readiness waits of the current thread's test compared with the fixed sleep each one
+     * replaced, and reset the counters; null if the test did not wait
+     */
+    public static String collectTestSummary(long replacedSleepMillis) {
+        ReadinessStats stats = testStats.get();
+        testStats.remove();
+        if (stats.waits == 0) {
+            return null;
+        }
+        long sleptMillis = stats.waits * replacedSleepMillis;
+        MetricsCollector.add("page.ready.time.saved.ms", Math.max(0, sleptMillis - stats.waitedMillis));
+        return "Page readiness: " + stats.waits + " wait(s), " + stats.waitedMillis + "ms waited instead of "
+                + sleptMillis + "ms fixed sleep" + (stats.timeouts > 0 ? " (" + stats.timeouts + " timed out)" : "");
+    }
+    
+    /**
+     * Forget the browser once it has been quit
+     */
+    public static void remove(WebDriver driver) {
+        states.remove(driver);
+    }
+    
+    private static boolean isNetworkQuiet(NetworkState state, long waitStartNanos, long quietNanos) {
+        if (state == null) {
+            return true;
+        }
+        return state.inFlight.isEmpty() && System.nanoTime() - Math.max(state.lastActivityNanos, waitStartNanos) >= quietNanos;
+    }
+    
+    private static boolean isDocumentComplete(WebDriver driver) {
+        try {
+            return "complete".equals(((JavascriptExecutor) driver).executeScript("return document.readyState"));
+        } catch (WebDriverException e) {
+            // Document is being replaced
+            return false;
+        }
+    }
+    
+    private static long getIdleSinceMillis(NetworkState state, long waitStartNanos) {
+        return (Math.max(state.lastActivityNanos, waitStartNanos) - waitStartNanos) / 1_000_000;
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for network idle", e);
+        }
+    }
+    
+    /**
+     * In-flight request ids and time of the last network event for one browser
+     */
+    private static class NetworkState {
+        private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+        private volatile long lastActivityNanos = System.nanoTime();
+        
+        private void started(String requestId) {
+            inFlight.add(requestId);
+            lastActivityNanos = System.nanoTime();
+        }
+        
+        private void finished(String requestId) {
+            inFlight.remove(requestId);
+            lastActivityNanos = System.nanoTime();
+        }
+    }
+    
+    /**
+     * Readiness waits of the current test
+     */
+    private static class ReadinessStats {
+        private int waits;
+        private int timeouts;
+        private long waitedMillis;
+        
+        private void record(long waited, boolean ready) {
+            waits++;
+            waitedMillis += waited;
+            if (!ready) {
+                timeouts++;
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Network Resource Blocker class to block images, fonts, media and third-party scripts
+ * through DevTools request interception on Chromium browsers
+ */
+public class NetworkResourceBlocker {
+    
+    private static final Map<WebDriver, BlockingStats> stats = new ConcurrentHashMap<>();
+    
+    /**
+     * Enable resource blocking on the browser if it supports DevTools
+     */
+    public static void enable(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            System.out.println("Resource blocking requires a Chromium browser, skipping for "
+                    + driver.getClass().getSimpleName());
+            return;
+        }
+        BlockingStats blockingStats = new BlockingStats();
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            
+            devTools.addListener(new Event<Map<String, Object>>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE)),
+                    params -> {
+                        String resourceType = String.valueOf(params.get("resourceType"));
+                        devTools.send(new Command<Void>("Fetch.failRequest",
+                                Map.of("requestId", params.get("requestId"), "errorReason", "BlockedByClient")));
+                        blockingStats.record(resourceType);
+                        MetricsCollector.increment("network.requests.blocked");
+                    });
+            devTools.addListener(new Event<Map<String, Object>>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE)),
+                    params -> {
+                        Object length = params.get("encodedDataLength");
+                        if (length instanceof Number) {
+                            blockingStats.bytesTransferred.add(((Number) length).longValue());
+                            MetricsCollector.add("network.bytes.transferred", ((Number) length).longValue());
+                        }
+                    });
+            
+            devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+            devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", buildPatterns())));
+            stats.put(driver, blockingStats);
+        } catch (RuntimeException e) {
+            System.out.println("Failed to enable resource blocking: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Get blocking summary for the current test and reset the counters, or null if blocking is off
+     */
+    public static String collectTestSummary(WebDriver driver) {
+        BlockingStats blockingStats = driver == null ? null : stats.get(DriverFactory.unwrap(driver));
+        if (blockingStats == null) {
+            return null;
+        }
+        return blockingStats.summarizeAndReset();
+    }
+    
+    /**
+     * Forget the browser once it has been quit
+     */
+    public static void remove(WebDriver driver) {
+        stats.remove(driver);
+    }
+    
+    /**
+     * Build Fetch interception patterns from configured resource types and URL patterns
+     */
+    private static List<Map<String, Object>> buildPatterns() {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String resourceType : ConfigReader.getBlockedResourceTypes()) {
+            Map<String, Object> pattern = new HashMap<>();
+            pattern.put("urlPattern", "*");
+            pattern.put("resourceType", resourceType);
+            pattern.put("requestStage", "Request");
+            patterns.add(pattern);
+        }
+        for (String urlPattern : ConfigReader.getBlockedUrlPatterns()) {
+            Map<String, Object> pattern = new HashMap<>();
+            pattern.put("urlPattern", urlPattern);
+            pattern.put("requestStage", "Request");
+            patterns.add(pattern);
+        }
+        return patterns;
+    }
+    
+    /**
+     * Blocked request and transferred byte counters for one browser
+     */
+    private static class BlockingStats {
+        private final Map<String, LongAdder> blockedByType = new ConcurrentHashMap<>();
+        private final LongAdder bytesTransferred = new LongAdder();
+        
+        private void record(String resourceType) {
+            blockedByType.computeIfAbsent(resourceType, key -> new LongAdder()).increment();
+        }
+        
+        private String summarizeAndReset() {
+            Map<String, Long> byType = new TreeMap<>();
+            long blocked = 0;
+            for (Map.Entry<String, LongAdder> entry : blockedByType.entrySet()) {
+                long count = entry.getValue().sumThenReset();
+                if (count > 0) {
+                    byType.put(entry.getKey(), count);
+                    blocked += count;
+                }
+            }
+            long transferredKb = bytesTransferred.sumThenReset() / 1024;
+            return "Resource blocking: " + blocked + " request(s) blocked " + byType
+                    + ", " + transferredKb + " KB transferred";
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.constants.AppConstants;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Shared Driver annotation for test classes whose methods only read application state:
+ * each worker keeps one browser and one login for all methods of the class and resets it
+ * by navigating to resetUrl between methods (see SharedDriverSession). Combine with
+ * class-level @Test(singleThreaded = true) so TestNG runs the methods on one worker
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SharedDriver {
+    
+    /**
+     * Page opened between methods
+     */
+    String resetUrl() default AppConstants.DASHBOARD_URL;
+}
@@ -0,0 +1,175 @@
+package com.qa.orangehrm.factory;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Shared Driver Session class to keep the current worker's browser and login across the methods
+ * of a @SharedDriver test class, reset it between methods, and detect methods that break the
+ * isolation the next method relies on (extra windows, logged-out session, several worker threads)
+ */
+public class SharedDriverSession {
+    
+    private static final ThreadLocal<SharedDriverSession> current = new ThreadLocal<>();
+    private static final Map<Class<?>, Long> classThreads = new ConcurrentHashMap<>();
+    private static final List<String> violations = new CopyOnWriteArrayList<>();
+    
+    private final Class<?> testClass;
+    private boolean reusable;
+    
+    private SharedDriverSession(Class<?> testClass) {
+        this.testClass = testClass;
+    }
+    
+    /**
+     * Check if the test class shares one browser per worker between its methods
+     */
+    public static boolean isShared(Class<?> testClass) {
+        return ConfigReader.isSharedDriverEnabled() && testClass.isAnnotationPresent(SharedDriver.class);
+    }
+    
+    /**
+     * Prepare the current worker for a method of testClass: a browser kept for another class is
+     * quit, and for a shared class the kept browser is reset to the class's resetUrl; returns true
+     * if the method can start on the kept browser and login
+     */
+    public static boolean resume(Class<?> testClass) {
+        SharedDriverSession session = current.get();
+        if (session != null && session.testClass != testClass) {
+            close();
+            DriverFactory.quitDriver();
+            session = null;
+        }
+        if (!isShared(testClass)) {
+            return false;
+        }
+        checkThread(testClass);
+        if (session == null) {
+            current.set(new SharedDriverSession(testClass));
+            return false;
+        }
+        if (!session.reusable) {
+            return false;
+        }
+        
+        WebDriver driver = DriverFactory.getDriver();
+        try {
+            driver.get(testClass.getAnnotation(SharedDriver.class).resetUrl());
+            if (!driver.getCurrentUrl().contains("auth/login")) {
+                MetricsCollector.increment("shared.driver.reuses");
+                return true;
+            }
+            reportViolation(testClass.getSimpleName() + " shared session was logged out when resetting for the next method");
+        } catch (WebDriverException e) {
+            reportViolation(testClass.getSimpleName() + " shared browser could not be reset: " + firstLine(e));
+            DriverFactory.discardDriver();
+            current.set(new SharedDriverSession(testClass));
+            return false;
+        }
+        // Same browser, but the method has to log in again
+        session.reusable = false;
+        return false;
+    }
+    
+    /**
+     * Check what the finished method left behind in the shared browser; the browser is kept for the
+     * next method only if the method passed and nothing leaked. Returns the isolation violation, or null
+     */
+    public static String finish(String methodName, boolean passed) {
+        SharedDriverSession session = current.get();
+        if (session == null) {
+            return null;
+        }
+        session.reusable = false;
+        WebDriver driver = DriverFactory.getDriver();
+        if (!passed || driver == null) {
+            return null;
+        }
+        
+        List<String> leaks = new ArrayList<>();
+        try {
+            int windows = driver.getWindowHandles().size();
+            if (windows > 1) {
+                leaks.add("left " + windows + " windows open");
+            }
+            if (driver.getCurrentUrl().contains("auth/login")) {
+                leaks.add("logged the shared session out");
+            }
+        } catch (WebDriverException e) {
+            leaks.add("left the browser unusable: " + firstLine(e));
+        }
+        if (leaks.isEmpty()) {
+            session.reusable = true;
+            return null;
+        }
+        String violation = session.testClass.getSimpleName() + "." + methodName + " broke shared driver isolation: "
+                + String.join(", ", leaks) + "; the next method starts on a fresh browser";
+        reportViolation(violation);
+        return violation;
+    }
+    
+    /**
+     * Check if the current worker's browser should be kept for the next method
+     */
+    public static boolean isReusable() {
+        SharedDriverSession session = current.get();
+        return session != null && session.reusable;
+    }
+    
+    /**
+     * Forget the current worker's shared session; the caller quits the browser
+     */
+    public static void close() {
+        current.remove();
+    }
+    
+    /**
+     * Quit the current worker's browser if it is kept for testClass, e.g. when the class finishes
+     */
+    public static void end(Class<?> testClass) {
+        SharedDriverSession session = current.get();
+        if (session != null && session.testClass == testClass) {
+            close();
+            DriverFactory.quitDriver();
+        }
+    }
+    
+    /**
+     * Get the isolation violations of the suite
+     */
+    public static List<String> getViolations() {
+        return violations;
+    }
+    
+    /**
+     * Methods of a shared class spread over several workers each get their own browser, which
+     * still works but means the class is not single-threaded
+     */
+    private static void checkThread(Class<?> testClass) {
+        long thread = Thread.currentThread().getId();
+        Long owner = classThreads.putIfAbsent(testClass, thread);
+        // -1 once reported
+        if (owner != null && owner != -1 && owner != thread && classThreads.replace(testClass, owner, -1L)) {
+            reportViolation(testClass.getSimpleName() + " methods run on several threads, each with its own shared browser; "
+                    + "add @Test(singleThreaded = true) to the class");
+        }
+    }
+    
+    private static String firstLine(WebDriverException e) {
+        return e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage().split("\n")[0];
+    }
+    
+    private static void reportViolation(String violation) {
+        violations.add(violation);
+        MetricsCollector.increment("shared.driver.isolation.violations");
+        System.out.println("Isolation violation: " + violation);
+    }
+}
@@ -0,0 +1,208 @@
+package com.qa.orangehrm.listeners;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.testng.IConfigurationListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Circuit Breaker listener to stop launching browsers once consecutive tests fail the same
+ * environmental way (application unreachable, page load timeout, login form missing, browser
+ * gone); tests are then skipped until a half-open HTTP probe finds the login page healthy again
+ */
+public class CircuitBreaker implements ITestListener, IConfigurationListener {
+    
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+    
+    private static final List<String> events = new CopyOnWriteArrayList<>();
+    private static State state = State.CLOSED;
+    private static String lastSignature;
+    private static int consecutiveFailures;
+    private static long openedAt;
+    private static String openReason;
+    
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordHealthy("test passed");
+    }
+    
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordFailure(result.getThrowable());
+    }
+    
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // An attempt handed to RetryAnalyzer still failed
+        if (result.wasRetried()) {
+            recordFailure(result.getThrowable());
+        }
+    }
+    
+    @Override
+    public void onConfigurationFailure(ITestResult result, ITestNGMethod testMethod) {
+        // Browser start, navigation and login happen in @BeforeMethod
+        if (result.getMethod().isBeforeMethodConfiguration()) {
+            recordFailure(result.getThrowable());
+        }
+    }
+    
+    /**
+     * Probe the application URL tests start from before the suite starts and open the circuit if it is not served
+     */
+    public static synchronized void preflight() {
+        if (!ConfigReader.isCircuitBreakerEnabled() || !ConfigReader.isCircuitBreakerPreflightEnabled()) {
+            return;
+        }
+        String problem = probe();
+        if (problem == null) {
+            System.out.println("Pre-flight health probe passed: " + ConfigReader.getAppUrl());
+            return;
+        }
+        trip("pre-flight probe failed (" + problem + ")");
+    }
+    
+    /**
+     * Check if the next test may run; returns null to run it, or the reason to skip it.
+     * After circuit.breaker.cooldown seconds one caller probes the login page and, if it is
+     * healthy, lets tests through again until the next failure decides
+     */
+    public static synchronized String allowTest() {
+        if (!ConfigReader.isCircuitBreakerEnabled() || state != State.OPEN) {
+            return null;
+        }
+        if (System.currentTimeMillis() - openedAt >= ConfigReader.getCircuitBreakerCooldown() * 1000L) {
+            String problem = probe();
+            if (problem == null) {
+                state = State.HALF_OPEN;
+                report("half-open, health probe passed after " + (System.currentTimeMillis() - openedAt) / 1000 + "s");
+                return null;
+            }
+            openedAt = System.currentTimeMillis();
+            report("still open, health probe failed (" + problem + ")");
+        }
+        MetricsCollector.increment("circuit.breaker.skipped");
+        return "Circuit breaker open: " + openReason + "; skipped without launching a browser";
+    }
+    
+    /**
+     * Get the trips, probes and recoveries of the suite
+     */
+    public static List<String> getEvents() {
+        return events;
+    }
+    
+    /**
+     * Environmental signature of a failure, or null if it points at the test or the application logic
+     */
+    private static String classify(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage() == null ? "" : cause.getMessage();
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException
+                    || message.contains("net::ERR_") || message.contains("Reached error page")) {
+                return "application unreachable";
+            }
+            if (cause instanceof NoSuchSessionException || cause instanceof SessionNotCreatedException
+                    || cause instanceof UnreachableBrowserException) {
+                return "browser unavailable";
+            }
+            if (cause instanceof TimeoutException) {
+                if (message.contains("page load") || message.contains("receiving message from renderer")) {
+                    return "page load timeout";
+                }
+                for (StackTraceElement frame : cause.getStackTrace()) {
+                    if ("com.qa.orangehrm.pages.LoginPage".equals(frame.getClassName()) && "waitForLoginForm".equals(frame.getMethodName())) {
+                        return "login form never appeared";
+                    }
+                }
+            }
+        }
+        return null;
+    }
+    
+    private static synchronized void recordHealthy(String evidence) {
+        consecutiveFailures = 0;
+        lastSignature = null;
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            report("closed, " + evidence + " after the health probe");
+        }
+    }
+    
+    private static synchronized void recordFailure(Throwable throwable) {
+        if (!ConfigReader.isCircuitBreakerEnabled() || state == State.OPEN) {
+            return;
+        }
+        String signature = classify(throwable);
+        if (signature == null) {
+            // The application answered, so the environment is fine
+            recordHealthy("test reached the application");
+            return;
+        }
+        consecutiveFailures = signature.equals(lastSignature) ? consecutiveFailures + 1 : 1;
+        lastSignature = signature;
+        if (state == State.HALF_OPEN || consecutiveFailures >= ConfigReader.getCircuitBreakerThreshold()) {
+            trip(consecutiveFailures + " consecutive '" + signature + "' failure(s), last: "
+                    + (throwable.getMessage() == null ? throwable.getClass().getSimpleName() : throwable.getMessage().split("\n")[0]));
+        }
+    }
+    
+    private static void trip(String reason) {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        openReason = reason;
+        consecutiveFailures = 0;
+        lastSignature = null;
+        MetricsCollector.increment("circuit.breaker.trips");
+        report("opened after " + reason);
+    }
+    
+    private static void report(String event) {
+        events.add(event);
+        System.out.println("Circuit breaker " + event);
+    }
+    
+    /**
+     * Fetch app.url over HTTP, the page BaseTest opens; returns null if it is served with the login form, else the problem
+     */
+    private static String probe() {
+        long start = System.currentTimeMillis();
+        Duration timeout = Duration.ofSeconds(ConfigReader.getCircuitBreakerProbeTimeout());
+        HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(timeout)
+                .build();
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(ConfigReader.getAppUrl()))
+                    .timeout(timeout).GET().build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return "HTTP " + response.statusCode();
+            }
+            return response.body().contains("<auth-login") ? null : "login form missing from the login page";
+        } catch (IOException e) {
+            return e.getClass().getSimpleName() + (e.getMessage() == null ? "" : ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        } finally {
+            MetricsCollector.recordTime("circuit.breaker.probe.time", System.currentTimeMillis() - start);
+        }
+    }
+}
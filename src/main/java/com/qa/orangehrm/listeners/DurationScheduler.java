@@ -0,0 +1,218 @@
+package com.qa.orangehrm.listeners;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.ExtentManager;
+import org.testng.IConfigurationListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Duration Scheduler listener to persist how long each test method takes (including its
+ * before/after method configuration) and to start the longest methods first on the next run,
+ * reporting the predicted longest-processing-time-first makespan against the actual one
+ */
+public class DurationScheduler implements IMethodInterceptor, IConfigurationListener, ITestListener, ISuiteListener {
+    
+    private static final String HISTORY_FILE_NAME = "test-durations.properties";
+    // Weight of the latest run when smoothing the stored duration
+    private static final double LATEST_RUN_WEIGHT = 0.5;
+    
+    private static final Map<String, LongAdder> observed = new ConcurrentHashMap<>();
+    private static final Map<String, Long> predictedMakespans = new ConcurrentHashMap<>();
+    private static final List<String> reports = new CopyOnWriteArrayList<>();
+    private static Properties history;
+    
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ConfigReader.isDurationSchedulingEnabled() || methods.size() < 2) {
+            return methods;
+        }
+        Properties durations = getHistory();
+        long fallback = averageKnownDuration(methods, durations);
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong((IMethodInstance method) ->
+                predictDuration(method.getMethod(), durations, fallback)).reversed());
+        
+        // Simulate LPT: each method goes to the worker that frees up first
+        int threads = getThreadCount(context);
+        PriorityQueue<Long> workers = new PriorityQueue<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(0L);
+        }
+        long makespan = 0;
+        int known = 0;
+        for (IMethodInstance method : ordered) {
+            long duration = predictDuration(method.getMethod(), durations, fallback);
+            long finish = workers.poll() + duration;
+            workers.add(finish);
+            makespan = Math.max(makespan, finish);
+            if (durations.containsKey(method.getMethod().getQualifiedName())) {
+                known++;
+            }
+        }
+        predictedMakespans.put(context.getName(), makespan);
+        System.out.println("Scheduling " + context.getName() + ": " + ordered.size() + " method(s) longest first on "
+                + threads + " thread(s), " + known + " with history, predicted makespan " + makespan + "ms");
+        return ordered;
+    }
+    
+    @Override
+    public void onConfigurationSuccess(ITestResult result, ITestNGMethod testMethod) {
+        recordConfiguration(result, testMethod);
+    }
+    
+    @Override
+    public void onConfigurationFailure(ITestResult result, ITestNGMethod testMethod) {
+        recordConfiguration(result, testMethod);
+    }
+    
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result.getMethod(), result);
+    }
+    
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result.getMethod(), result);
+    }
+    
+    @Override
+    public void onFinish(ITestContext context) {
+        Long predicted = predictedMakespans.get(context.getName());
+        if (predicted == null) {
+            return;
+        }
+        long actual = context.getEndDate().getTime() - context.getStartDate().getTime();
+        String report = context.getName() + ": predicted makespan " + predicted + "ms, actual " + actual + "ms";
+        reports.add(report);
+        System.out.println("Scheduling " + report);
+    }
+    
+    @Override
+    public void onFinish(ISuite suite) {
+        saveHistory();
+        if (reports.isEmpty() || ExtentManager.getExtent() == null) {
+            return;
+        }
+        ExtentManager.getExtent().setSystemInfo("Scheduling", String.join("<br>", reports));
+        ExtentManager.getExtent().flush();
+    }
+    
+    /**
+     * Get predicted vs actual makespan per TestNG test
+     */
+    public static List<String> getReports() {
+        return reports;
+    }
+    
+    private static void recordConfiguration(ITestResult result, ITestNGMethod testMethod) {
+        // Only before/after method configuration belongs to a single test method
+        if (testMethod != null && (result.getMethod().isBeforeMethodConfiguration()
+                || result.getMethod().isAfterMethodConfiguration())) {
+            record(testMethod, result);
+        }
+    }
+    
+    private static void record(ITestNGMethod method, ITestResult result) {
+        observed.computeIfAbsent(method.getQualifiedName(), key -> new LongAdder())
+                .add(result.getEndMillis() - result.getStartMillis());
+    }
+    
+    private static long predictDuration(ITestNGMethod method, Properties durations, long fallback) {
+        String duration = durations.getProperty(method.getQualifiedName());
+        return duration == null ? fallback : Long.parseLong(duration);
+    }
+    
+    /**
+     * Methods without history are assumed to take as long as the average known method
+     */
+    private static long averageKnownDuration(List<IMethodInstance> methods, Properties durations) {
+        long total = 0;
+        int known = 0;
+        for (IMethodInstance method : methods) {
+            String duration = durations.getProperty(method.getMethod().getQualifiedName());
+            if (duration != null) {
+                total += Long.parseLong(duration);
+                known++;
+            }
+        }
+        return known == 0 ? 1 : total / known;
+    }
+    
+    private static int getThreadCount(ITestContext context) {
+        if (context.getCurrentXmlTest().getParallel() == null || !context.getCurrentXmlTest().getParallel().isParallel()) {
+            return 1;
+        }
+        return Math.max(1, context.getCurrentXmlTest().getThreadCount());
+    }
+    
+    /**
+     * Get recorded method durations in ms, also used by ShardSelector to balance shards
+     */
+    static synchronized Properties getHistory() {
+        if (history == null) {
+            history = new Properties();
+            File historyFile = getHistoryFile();
+            if (historyFile.exists()) {
+                try (InputStream in = new FileInputStream(historyFile)) {
+                    history.load(in);
+                } catch (IOException e) {
+                    System.out.println("Failed to read test duration history: " + e.getMessage());
+                }
+            }
+        }
+        return history;
+    }
+    
+    /**
+     * Blend this run's durations into the history file
+     */
+    private static synchronized void saveHistory() {
+        if (observed.isEmpty()) {
+            return;
+        }
+        Properties durations = getHistory();
+        for (Map.Entry<String, LongAdder> entry : observed.entrySet()) {
+            long latest = entry.getValue().sum();
+            String previous = durations.getProperty(entry.getKey());
+            long smoothed = previous == null ? latest
+                    : Math.round(LATEST_RUN_WEIGHT * latest + (1 - LATEST_RUN_WEIGHT) * Long.parseLong(previous));
+            durations.setProperty(entry.getKey(), String.valueOf(smoothed));
+        }
+        observed.clear();
+        File historyFile = getHistoryFile();
+        historyFile.getAbsoluteFile().getParentFile().mkdirs();
+        try (OutputStream out = new FileOutputStream(historyFile)) {
+            durations.store(out, "Test method durations in ms, including before/after method configuration");
+        } catch (IOException e) {
+            System.out.println("Failed to save test duration history: " + e.getMessage());
+        }
+    }
+    
+    private static File getHistoryFile() {
+        String configured = ConfigReader.getDurationHistoryFile();
+        return configured.isEmpty() ? new File(ConfigReader.getDriverCacheDirectory(), HISTORY_FILE_NAME) : new File(configured);
+    }
+}
@@ -49,9 +49,23 @@ public class ExtentReportListener implements ITestListener {
     
     @Override
     public void onTestSkipped(ITestResult result) {
+        // Attempt failed on infrastructure and will run again (RetryAnalyzer)
+        if (result.wasRetried()) {
+            if (ExtentManager.getCurrentTest() != null) {
+                ExtentManager.getCurrentTest().warning("Test Retried: " + result.getName());
+            }
+            System.out.println("Test Retried: " + result.getName());
+            return;
+        }
+        
         // Test skipped
         if (ExtentManager.getCurrentTest() != null) {
             ExtentManager.getCurrentTest().skip("Test Skipped: " + result.getName());
+            
+            // Log skip reason, e.g. an open circuit breaker
+            if (result.getThrowable() != null) {
+                ExtentManager.getCurrentTest().skip("Skip Reason: " + result.getThrowable().getMessage());
+            }
         }
         System.out.println("Test Skipped: " + result.getName());
     }
@@ -0,0 +1,158 @@
+package com.qa.orangehrm.listeners;
+
+import com.qa.orangehrm.factory.BrowserResourceManager;
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.ExtentManager;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Parallelism Tuner listener to choose the TestNG worker count from cores, free memory and
+ * measured browser footprint, and to shrink or grow the browser cap between test batches
+ * based on CPU load and browser admission waits
+ */
+public class ParallelismTuner implements IAlterSuiteListener, ISuiteListener, ITestListener {
+    
+    private static final List<String> decisions = new CopyOnWriteArrayList<>();
+    private static int finishedTests;
+    private static int ceiling;
+    private static long lastAdmissionWait;
+    private static long lastAdmissionCount;
+    
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!ConfigReader.isParallelAutoTuneEnabled()) {
+            return;
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        long freeMb = BrowserResourceManager.getFreeMemoryMb();
+        long footprintMb = BrowserResourceManager.getBrowserFootprintMb();
+        int browserCap = BrowserResourceManager.getMaxBrowsers();
+        int maxThreads = ConfigReader.getParallelMaxThreads();
+        int threads = maxThreads > 0 ? Math.min(browserCap, maxThreads) : browserCap;
+        ceiling = browserCap;
+        getCpuLoad(); // first reading primes the MXBean and is always -1
+        
+        StringBuilder reason = new StringBuilder();
+        reason.append(cores).append(" core(s), ");
+        reason.append(freeMb < 0 ? "free memory unknown" : freeMb + " MB free").append(", ");
+        reason.append(footprintMb).append(" MB per browser (")
+                .append(BrowserResourceManager.isFootprintMeasured() ? "measured" : "configured").append(")");
+        if (ConfigReader.getBrowserMaxConcurrent() > 0) {
+            reason.append(", browser.max.concurrent=").append(ConfigReader.getBrowserMaxConcurrent());
+        }
+        if (maxThreads > 0) {
+            reason.append(", parallel.max.threads=").append(maxThreads);
+        }
+        reason.append(", JVM heap ").append(Runtime.getRuntime().maxMemory() / (1024 * 1024)).append(" MB");
+        
+        for (XmlSuite suite : suites) {
+            if (suite.getParallel() == null || !suite.getParallel().isParallel()) {
+                decisions.add(suite.getName() + ": not parallel, thread-count left at " + suite.getThreadCount());
+                continue;
+            }
+            decisions.add(suite.getName() + ": " + threads + " thread(s) (was " + suite.getThreadCount() + ") - " + reason);
+            suite.setThreadCount(threads);
+            suite.setDataProviderThreadCount(threads);
+            for (XmlTest test : suite.getTests()) {
+                test.setThreadCount(threads);
+            }
+        }
+        MetricsCollector.setGauge("parallel.threads", threads);
+        decisions.forEach(decision -> System.out.println("Parallelism: " + decision));
+    }
+    
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        onTestFinished();
+    }
+    
+    @Override
+    public void onTestFailure(ITestResult result) {
+        onTestFinished();
+    }
+    
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        onTestFinished();
+    }
+    
+    @Override
+    public void onFinish(ISuite suite) {
+        if (decisions.isEmpty() || ExtentManager.getExtent() == null) {
+            return;
+        }
+        ExtentManager.getExtent().setSystemInfo("Parallelism", String.join("<br>", decisions));
+        ExtentManager.getExtent().flush();
+    }
+    
+    /**
+     * Get chosen worker counts and adjustments with their reasons
+     */
+    public static List<String> getDecisions() {
+        return new ArrayList<>(decisions);
+    }
+    
+    /**
+     * Re-evaluate the browser cap after every batch of finished tests
+     */
+    private static synchronized void onTestFinished() {
+        if (!ConfigReader.isParallelAutoTuneEnabled() || ceiling == 0) {
+            return;
+        }
+        finishedTests++;
+        if (finishedTests % ConfigReader.getParallelAdjustInterval() != 0) {
+            return;
+        }
+        BrowserResourceManager.sampleFootprint();
+        
+        long admissionWait = MetricsCollector.getTotalTime("browser.admission.wait");
+        long admissionCount = MetricsCollector.getTimeCount("browser.admission.wait");
+        long launches = admissionCount - lastAdmissionCount;
+        long avgWait = launches == 0 ? 0 : (admissionWait - lastAdmissionWait) / launches;
+        lastAdmissionWait = admissionWait;
+        lastAdmissionCount = admissionCount;
+        
+        int cpuPercent = getCpuLoad();
+        int current = BrowserResourceManager.getMaxBrowsers();
+        String batch = "after " + finishedTests + " test(s): ";
+        if (cpuPercent >= ConfigReader.getParallelCpuHighPercent() && current > 1) {
+            BrowserResourceManager.resize(current - 1);
+            decisions.add(batch + "browser cap " + current + " -> " + (current - 1)
+                    + " (CPU " + cpuPercent + "% >= " + ConfigReader.getParallelCpuHighPercent() + "%)");
+            MetricsCollector.increment("parallel.shrinks");
+        } else if (cpuPercent >= 0 && cpuPercent < ConfigReader.getParallelCpuLowPercent()
+                && avgWait > ConfigReader.getParallelAdmissionWaitThreshold() && current < ceiling) {
+            BrowserResourceManager.resize(current + 1);
+            decisions.add(batch + "browser cap " + current + " -> " + (current + 1)
+                    + " (CPU " + cpuPercent + "%, avg admission wait " + avgWait + "ms)");
+            MetricsCollector.increment("parallel.grows");
+        }
+    }
+    
+    /**
+     * Get system CPU load as a percentage, or -1 if unavailable
+     */
+    @SuppressWarnings("deprecation")
+    private static int getCpuLoad() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            // Deprecated from Java 14, but its replacement getCpuLoad does not exist on Java 11
+            double load = ((com.sun.management.OperatingSystemMXBean) os).getSystemCpuLoad();
+            return load < 0 ? -1 : (int) Math.round(load * 100);
+        }
+        return -1;
+    }
+}
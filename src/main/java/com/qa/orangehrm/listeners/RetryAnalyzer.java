@@ -0,0 +1,113 @@
+package com.qa.orangehrm.listeners;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.InvalidArgumentException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.WebDriverException;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Retry Analyzer to rerun a test up to test.retry.count times when it failed because of the
+ * browser or the network (crashed sessions, timeouts, WebDriverException) rather than an assertion;
+ * BaseTest discards the driver of a retried attempt so the next one starts on a fresh browser
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+    
+    // Programming errors that fail the same way on every attempt
+    private static final List<Class<? extends Throwable>> NOT_RETRIED = List.of(
+            InvalidSelectorException.class, InvalidArgumentException.class);
+    
+    private static final List<String> retries = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<Integer> nextAttempt = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> currentAttempt = ThreadLocal.withInitial(() -> 1);
+    
+    private int retried;
+    
+    @Override
+    public boolean retry(ITestResult result) {
+        if (retried >= ConfigReader.getRetryCount() || !isInfrastructureFailure(result.getThrowable())) {
+            return false;
+        }
+        retried++;
+        long cost = result.getEndMillis() - result.getStartMillis();
+        MetricsCollector.increment("test.retry.attempts");
+        MetricsCollector.recordTime("test.retry.time", cost);
+        String retry = result.getTestClass().getRealClass().getSimpleName() + "." + result.getName() + " attempt "
+                + currentAttempt.get() + " failed after " + cost + "ms: " + describe(result.getThrowable());
+        retries.add(retry);
+        System.out.println("Retrying " + retry);
+        nextAttempt.set(currentAttempt.get() + 1);
+        return true;
+    }
+    
+    /**
+     * Check if a failure came from the environment rather than the application under test;
+     * assertion failures are never retried
+     */
+    public static boolean isInfrastructureFailure(Throwable throwable) {
+        if (throwable == null || throwable instanceof AssertionError) {
+            return false;
+        }
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            for (Class<? extends Throwable> notRetried : NOT_RETRIED) {
+                if (notRetried.isInstance(cause)) {
+                    return false;
+                }
+            }
+            if (cause instanceof WebDriverException || cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Start the current thread's next test method and get its attempt number, 1 unless
+     * the previous attempt of the same method was retried
+     */
+    public static int startAttempt() {
+        Integer next = nextAttempt.get();
+        nextAttempt.remove();
+        currentAttempt.set(next == null ? 1 : next);
+        return currentAttempt.get();
+    }
+    
+    /**
+     * Get the outcome of the finished attempt for its ExtentReports node, null for a first
+     * attempt that is not being retried
+     */
+    public static String collectTestSummary(ITestResult result) {
+        int attempt = currentAttempt.get();
+        if (result.wasRetried()) {
+            return "Attempt " + attempt + " failed with an infrastructure problem, retrying on a fresh driver: "
+                    + describe(result.getThrowable());
+        }
+        if (attempt == 1) {
+            return null;
+        }
+        if (result.getStatus() == ITestResult.SUCCESS) {
+            MetricsCollector.increment("test.retry.recovered");
+            return "Passed on attempt " + attempt + " after infrastructure failure(s)";
+        }
+        return "Still failing on attempt " + attempt;
+    }
+    
+    /**
+     * Get the retried attempts of the suite with what they cost
+     */
+    public static List<String> getRetries() {
+        return retries;
+    }
+    
+    private static String describe(Throwable throwable) {
+        String message = throwable.getMessage() == null ? "" : throwable.getMessage().split("\n")[0];
+        return throwable.getClass().getSimpleName() + (message.isEmpty() ? "" : " - " + message);
+    }
+}
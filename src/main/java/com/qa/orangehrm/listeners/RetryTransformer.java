@@ -0,0 +1,39 @@
+package com.qa.orangehrm.listeners;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Retry Transformer listener to give every @Test without its own retry analyzer the
+ * RetryAnalyzer when test.retry.count is above zero
+ */
+public class RetryTransformer implements IAnnotationTransformer {
+    
+    // What @Test(retryAnalyzer) holds when a test names none, read from the annotation itself
+    private static final Object NO_RETRY_ANALYZER = getDefaultRetryAnalyzer();
+    
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (ConfigReader.getRetryCount() <= 0) {
+            return;
+        }
+        Class<?> retryAnalyzer = annotation.getRetryAnalyzerClass();
+        if (retryAnalyzer == null || retryAnalyzer.equals(NO_RETRY_ANALYZER)) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+    }
+    
+    private static Object getDefaultRetryAnalyzer() {
+        try {
+            return Test.class.getMethod("retryAnalyzer").getDefaultValue();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("@Test has no retryAnalyzer attribute", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.qa.orangehrm.listeners;
+
+import com.qa.orangehrm.utils.ConfigReader;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Shard Selector listener to split each TestNG test's methods across shard.total machines
+ * and keep only those of shard.index; every shard computes the same partition from the method
+ * names (and, with shard.balance=duration, the recorded durations) so no coordination is needed
+ */
+public class ShardSelector implements IMethodInterceptor {
+    
+    private static final List<String> assignments = new CopyOnWriteArrayList<>();
+    // Partition hash per TestNG test, compared across shards when merging reports
+    private static final Map<String, String> partitions = new ConcurrentSkipListMap<>();
+    
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ConfigReader.isShardingEnabled()) {
+            return methods;
+        }
+        int index = ConfigReader.getShardIndex();
+        int total = ConfigReader.getShardTotal();
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (total - 1) + " but was " + index);
+        }
+        
+        // Data provider rows and invocations of one method always stay on the same shard;
+        // @ShardedRows methods run on every shard, each reading only its own rows
+        TreeSet<String> names = new TreeSet<>();
+        for (IMethodInstance method : methods) {
+            if (!isRowSharded(method)) {
+                names.add(method.getMethod().getQualifiedName());
+            }
+        }
+        boolean byDuration = "duration".equalsIgnoreCase(ConfigReader.getShardBalance());
+        Map<String, Integer> partition = byDuration
+                ? partitionByDuration(names, total, DurationScheduler.getHistory())
+                : partitionByCount(names, total);
+        
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (isRowSharded(method) || partition.get(method.getMethod().getQualifiedName()) == index) {
+                selected.add(method);
+            }
+        }
+        partitions.put(context.getName(), Integer.toHexString(partition.toString().hashCode()));
+        String assignment = context.getName() + ": " + selected.size() + " of " + methods.size() + " method(s) on shard "
+                + index + "/" + total + " (balanced by " + (byDuration ? "duration" : "count") + ")";
+        assignments.add(assignment);
+        System.out.println("Sharding " + assignment);
+        return selected;
+    }
+    
+    /**
+     * Get the methods kept by this shard per TestNG test
+     */
+    public static List<String> getAssignments() {
+        return assignments;
+    }
+    
+    /**
+     * Get a fingerprint of the partition of every TestNG test; shards that ran with different
+     * test selections or duration history report different fingerprints
+     */
+    public static String getPartitionFingerprint() {
+        return partitions.toString();
+    }
+    
+    private static boolean isRowSharded(IMethodInstance method) {
+        Method testMethod = method.getMethod().getConstructorOrMethod().getMethod();
+        return testMethod != null && testMethod.isAnnotationPresent(ShardedRows.class);
+    }
+    
+    /**
+     * Deal sorted method names to the shards in turn
+     */
+    private static Map<String, Integer> partitionByCount(TreeSet<String> names, int total) {
+        Map<String, Integer> partition = new TreeMap<>();
+        int next = 0;
+        for (String name : names) {
+            partition.put(name, next);
+            next = (next + 1) % total;
+        }
+        return partition;
+    }
+    
+    /**
+     * Give each method, longest first, to the shard with the least predicted work; methods without
+     * history count as the average known duration and ties go to the lowest shard index
+     */
+    private static Map<String, Integer> partitionByDuration(TreeSet<String> names, int total, Properties durations) {
+        long known = 0;
+        int knownCount = 0;
+        for (String name : names) {
+            String duration = durations.getProperty(name);
+            if (duration != null) {
+                known += Long.parseLong(duration);
+                knownCount++;
+            }
+        }
+        long fallback = knownCount == 0 ? 1 : known / knownCount;
+        
+        List<String> ordered = new ArrayList<>(names);
+        ordered.sort(Comparator.comparingLong((String name) ->
+                Long.parseLong(durations.getProperty(name, String.valueOf(fallback)))).reversed());
+        long[] loads = new long[total];
+        Map<String, Integer> partition = new TreeMap<>();
+        for (String name : ordered) {
+            int lightest = 0;
+            for (int shard = 1; shard < total; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += Long.parseLong(durations.getProperty(name, String.valueOf(fallback)));
+            partition.put(name, lightest);
+        }
+        return partition;
+    }
+}
@@ -0,0 +1,16 @@
+package com.qa.orangehrm.listeners;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sharded Rows annotation for test methods that read their rows through
+ * DataRows.forCurrentShard(): ShardSelector runs them on every shard instead of
+ * assigning them to one, since each shard already reads only its own rows
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ShardedRows {
+}
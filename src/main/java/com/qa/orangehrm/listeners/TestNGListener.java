@@ -1,5 +1,11 @@
 package com.qa.orangehrm.listeners;
 
+import com.qa.orangehrm.factory.SharedDriverSession;
+import com.qa.orangehrm.utils.CommandMetrics;
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import com.qa.orangehrm.utils.ShardReports;
+import com.qa.orangehrm.utils.WaitProfiler;
 import org.testng.IReporter;
 import org.testng.ISuite;
 import org.testng.ISuiteResult;
@@ -8,6 +14,7 @@ import org.testng.xml.XmlSuite;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * Custom TestNG Listener for additional reporting and monitoring
@@ -43,6 +50,145 @@ public class TestNGListener implements IReporter {
             }
         }
         
+        // Methods kept by this shard (shard.index/shard.total)
+        List<String> shardAssignments = ShardSelector.getAssignments();
+        if (!shardAssignments.isEmpty()) {
+            System.out.println("\n=== Sharding ===");
+            for (String assignment : shardAssignments) {
+                System.out.println("  - " + assignment);
+            }
+        }
+        
+        // Worker counts chosen by ParallelismTuner and why
+        List<String> parallelismDecisions = ParallelismTuner.getDecisions();
+        if (!parallelismDecisions.isEmpty()) {
+            System.out.println("\n=== Parallelism ===");
+            for (String decision : parallelismDecisions) {
+                System.out.println("  - " + decision);
+            }
+        }
+        
+        // Longest-first scheduling, predicted vs actual makespan
+        List<String> schedulingReports = DurationScheduler.getReports();
+        if (!schedulingReports.isEmpty()) {
+            System.out.println("\n=== Scheduling ===");
+            for (String report : schedulingReports) {
+                System.out.println("  - " + report);
+            }
+        }
+        
+        // Attempts retried after infrastructure failures (test.retry.count)
+        List<String> retries = RetryAnalyzer.getRetries();
+        if (!retries.isEmpty()) {
+            System.out.println("\n=== Retries ===");
+            System.out.println("  - " + retries.size() + " retried attempt(s), "
+                    + MetricsCollector.getTotalTime("test.retry.time") + "ms spent on failed attempts, "
+                    + MetricsCollector.getCount("test.retry.recovered") + " test(s) recovered");
+            for (String retry : retries) {
+                System.out.println("  - " + retry);
+            }
+        }
+        
+        // Circuit breaker trips, probes and recoveries (circuit.breaker.*)
+        List<String> circuitEvents = CircuitBreaker.getEvents();
+        if (!circuitEvents.isEmpty()) {
+            System.out.println("\n=== Circuit Breaker ===");
+            for (String event : circuitEvents) {
+                System.out.println("  - " + event);
+            }
+        }
+        
+        // Browsers kept across @SharedDriver methods and what broke their isolation (shared.driver.enabled)
+        long sharedReuses = MetricsCollector.getCount("shared.driver.reuses");
+        List<String> isolationViolations = SharedDriverSession.getViolations();
+        if (sharedReuses > 0 || !isolationViolations.isEmpty()) {
+            System.out.println("\n=== Shared Driver ===");
+            System.out.println("  - " + sharedReuses + " method(s) started on a kept browser and login, "
+                    + isolationViolations.size() + " isolation violation(s)");
+            for (String violation : isolationViolations) {
+                System.out.println("  - " + violation);
+            }
+        }
+        
+        // WebDriver command latency (driver.command.metrics)
+        List<String> commandSummary = CommandMetrics.getSuiteSummary();
+        if (!commandSummary.isEmpty()) {
+            System.out.println("\n=== WebDriver Commands ===");
+            for (String command : commandSummary) {
+                System.out.println("  - " + command);
+            }
+        }
+        
+        // Wasted wait time ranked per call site and per test (profile.waits)
+        List<String> waitReport = WaitProfiler.getSuiteReport();
+        if (!waitReport.isEmpty()) {
+            System.out.println("\n=== Wasted Waits ===");
+            for (String line : waitReport) {
+                System.out.println("  " + line);
+            }
+        }
+        
+        // Framework metrics (driver pool, waits, etc.)
+        MetricsCollector.printSummary();
+        
         System.out.println("\n=== End of Report ===");
+        
+        if (ConfigReader.isShardingEnabled()) {
+            saveShardSummary(suites);
+        }
+    }
+    
+    /**
+     * Save this shard's results, listener sections and metrics for ShardReports to merge
+     */
+    private void saveShardSummary(List<ISuite> suites) {
+        Properties summary = new Properties();
+        summary.setProperty("shard.index", String.valueOf(ConfigReader.getShardIndex()));
+        summary.setProperty("shard.total", String.valueOf(ConfigReader.getShardTotal()));
+        summary.setProperty("shard.partition", ShardSelector.getPartitionFingerprint());
+        
+        int methods = 0;
+        long start = Long.MAX_VALUE;
+        long end = 0;
+        for (ISuite suite : suites) {
+            for (Map.Entry<String, ISuiteResult> entry : suite.getResults().entrySet()) {
+                ITestContext testContext = entry.getValue().getTestContext();
+                String prefix = "test." + entry.getKey() + ".";
+                summary.setProperty(prefix + "passed", String.valueOf(testContext.getPassedTests().size()));
+                summary.setProperty(prefix + "failed", String.valueOf(testContext.getFailedTests().size()));
+                // Retried attempts are reported as skipped but the attempt after them is counted already
+                int skipped = (int) testContext.getSkippedTests().getAllResults().stream().filter(result -> !result.wasRetried()).count();
+                summary.setProperty(prefix + "skipped", String.valueOf(skipped));
+                // getAllTestMethods() is the list before ShardSelector ran, so count what this shard ran instead
+                int ran = testContext.getPassedTests().size() + testContext.getFailedTests().size() + skipped;
+                summary.setProperty(prefix + "total", String.valueOf(ran));
+                summary.setProperty(prefix + "duration",
+                        String.valueOf(testContext.getEndDate().getTime() - testContext.getStartDate().getTime()));
+                methods += ran;
+                start = Math.min(start, testContext.getStartDate().getTime());
+                end = Math.max(end, testContext.getEndDate().getTime());
+            }
+        }
+        summary.setProperty("shard.methods", String.valueOf(methods));
+        summary.setProperty("shard.duration", String.valueOf(Math.max(0, end - start)));
+        
+        saveSection(summary, "Sharding", ShardSelector.getAssignments());
+        saveSection(summary, "Parallelism", ParallelismTuner.getDecisions());
+        saveSection(summary, "Scheduling", DurationScheduler.getReports());
+        saveSection(summary, "Retries", RetryAnalyzer.getRetries());
+        saveSection(summary, "Circuit Breaker", CircuitBreaker.getEvents());
+        saveSection(summary, "Shared Driver", SharedDriverSession.getViolations());
+        saveSection(summary, "WebDriver Commands", CommandMetrics.getSuiteSummary());
+        saveSection(summary, "Wasted Waits", WaitProfiler.getSuiteReport());
+        for (Map.Entry<String, String> metric : MetricsCollector.snapshot().entrySet()) {
+            summary.setProperty("metric." + metric.getKey(), metric.getValue());
+        }
+        ShardReports.saveSummary(summary);
+    }
+    
+    private void saveSection(Properties summary, String title, List<String> lines) {
+        if (!lines.isEmpty()) {
+            summary.setProperty("section." + title, String.join("\n", lines));
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.qa.orangehrm.pages;
+
+import com.qa.orangehrm.constants.AppConstants;
+import com.qa.orangehrm.factory.AsyncSession;
+import com.qa.orangehrm.utils.ConfigReader;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Async Login Page class for OrangeHRM application: the LoginPage actions on an AsyncSession,
+ * each returning a CompletableFuture so one thread can log many sessions in at once
+ */
+public class AsyncLoginPage {
+    
+    // Page Locators, as in LoginPage
+    private final By usernameField = By.name("username");
+    private final By passwordField = By.name("password");
+    private final By loginButton = By.xpath("//button[@type='submit']");
+    private final By loginForm = By.className("orangehrm-login-form");
+    private final By loginError = By.className("oxd-alert-content-text");
+    
+    private final AsyncSession session;
+    
+    public AsyncLoginPage(AsyncSession session) {
+        this.session = session;
+    }
+    
+    /**
+     * Navigate to login page; completes once the login form is present
+     */
+    public CompletableFuture<Void> navigateToLoginPage() {
+        return session.navigate(AppConstants.LOGIN_PAGE_URL)
+                .thenCompose(ignored -> session.findElement(loginForm))
+                .thenApply(ignored -> null);
+    }
+    
+    /**
+     * Login with credentials; completes once the form is submitted
+     */
+    public CompletableFuture<Void> login(String username, String password) {
+        return session.findElement(usernameField)
+                .thenCompose(element -> session.sendKeys(element, username))
+                .thenCompose(ignored -> session.findElement(passwordField))
+                .thenCompose(element -> session.sendKeys(element, password))
+                .thenCompose(ignored -> session.findElement(loginButton))
+                .thenCompose(session::click);
+    }
+    
+    /**
+     * Open the login page, log in and wait for the dashboard; completes with the dashboard URL
+     */
+    public CompletableFuture<String> loginToDashboard(String username, String password) {
+        return navigateToLoginPage()
+                .thenCompose(ignored -> login(username, password))
+                .thenCompose(ignored -> session.waitForUrlContaining("dashboard", ConfigReader.getPageLoadTimeout()));
+    }
+    
+    /**
+     * Get login error message, waiting for it to appear
+     */
+    public CompletableFuture<String> getLoginErrorMessage() {
+        return session.findElement(loginError).thenCompose(session::getText);
+    }
+}
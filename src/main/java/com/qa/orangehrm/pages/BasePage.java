@@ -2,22 +2,79 @@ package com.qa.orangehrm.pages;
 
 import com.qa.orangehrm.factory.DriverFactory;
 import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.LocatorCompiler;
+import com.qa.orangehrm.utils.MetricsCollector;
+import com.qa.orangehrm.utils.MutationObserverWait;
+import com.qa.orangehrm.utils.PageScripts;
+import com.qa.orangehrm.utils.WaitProfiler;
 import org.openqa.selenium.*;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Base Page class with common WebDriver operations and wait methods
  */
 public class BasePage {
     
+    private static final long CHECK_POLLING_MILLIS = 100;
+    
+    private static final String ELEMENT_STATES_SCRIPT =
+            PageScripts.FIND_FUNCTION
+            + PageScripts.IS_VISIBLE_FUNCTION
+            + "var locators = arguments[0], states = [];"
+            + "for (var i = 0; i < locators.length; i++) {"
+            + "  var el = find(locators[i])[0];"
+            + "  if (!el) { states.push(null); continue; }"
+            + "  var visible = isVisible(el);"
+            + "  states.push({displayed: visible, enabled: !el.disabled,"
+            + "      text: visible ? (el.innerText || '').replace(/\\s+/g, ' ').trim() : ''});"
+            + "}"
+            + "return states;";
+    
+    private static final String FILL_FORM_SCRIPT =
+            PageScripts.FIND_FUNCTION
+            + PageScripts.IS_VISIBLE_FUNCTION
+            + "var fields = arguments[0], values = arguments[1], submit = arguments[2], elements = [];"
+            // Check everything before touching anything so a failure leaves the form as it was
+            + "for (var i = 0; i < fields.length; i++) {"
+            + "  var el = find(fields[i])[0];"
+            + "  if (!el || !/^(INPUT|TEXTAREA|SELECT)$/.test(el.tagName) || !isVisible(el) || el.disabled || el.readOnly) {"
+            + "    return 'field ' + fields[i].join(' ') + ' is not editable';"
+            + "  }"
+            + "  elements.push(el);"
+            + "}"
+            + "var button = submit ? find(submit)[0] : null;"
+            + "if (submit && (!button || !isVisible(button) || button.disabled)) {"
+            + "  return 'submit ' + submit.join(' ') + ' is not clickable';"
+            + "}"
+            + "for (var j = 0; j < elements.length; j++) {"
+            + "  var field = elements[j];"
+            + "  field.focus();"
+            // Native setter so framework-patched value properties still see the change
+            + "  Object.getOwnPropertyDescriptor(Object.getPrototypeOf(field), 'value').set.call(field, values[j]);"
+            + "  field.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  field.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "  field.blur();"
+            + "}"
+            + "if (button) { button.click(); }"
+            + "return null;";
+    
     protected WebDriver driver;
     protected WebDriverWait wait;
     protected FluentWait<WebDriver> fluentWait;
+    private final ElementCache elementCache = new ElementCache();
     
     public BasePage() {
         this.driver = DriverFactory.getDriver();
@@ -33,6 +90,8 @@ public class BasePage {
      */
     public void navigateTo(String url) {
         driver.get(url);
+        elementCache.clear();
+        elementCache.onUrl(url);
     }
     
     /**
@@ -46,67 +105,179 @@ public class BasePage {
      * Get current page URL
      */
     public String getCurrentUrl() {
-        return driver.getCurrentUrl();
+        String currentUrl = driver.getCurrentUrl();
+        elementCache.onUrl(currentUrl);
+        return currentUrl;
     }
     
     /**
      * Wait for element to be visible
      */
     public WebElement waitForElementVisible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        By compiled = LocatorCompiler.compile(locator);
+        if (MutationObserverWait.supports(driver, compiled)) {
+            return profileWait("waitForElementVisible (observer)",
+                    () -> MutationObserverWait.waitForVisible(driver, compiled, getWaitTimeout()));
+        }
+        if (ConfigReader.isMutationObserverWaitEnabled()) {
+            MetricsCollector.increment("wait.observer.fallbacks");
+        }
+        return pollUntil("waitForElementVisible (polled)", ExpectedConditions.visibilityOfElementLocated(locator));
     }
     
     /**
      * Wait for element to be clickable
      */
     public WebElement waitForElementClickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        By compiled = LocatorCompiler.compile(locator);
+        if (MutationObserverWait.supports(driver, compiled)) {
+            return profileWait("waitForElementClickable (observer)",
+                    () -> MutationObserverWait.waitForClickable(driver, compiled, getWaitTimeout()));
+        }
+        if (ConfigReader.isMutationObserverWaitEnabled()) {
+            MetricsCollector.increment("wait.observer.fallbacks");
+        }
+        return pollUntil("waitForElementClickable (polled)", ExpectedConditions.elementToBeClickable(locator));
     }
     
     /**
      * Wait for element to be present
      */
     public WebElement waitForElementPresent(By locator) {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return pollUntil("waitForElementPresent (polled)", ExpectedConditions.presenceOfElementLocated(locator));
     }
     
     /**
      * Wait for page title to contain text
      */
     public boolean waitForPageTitleContains(String title) {
-        return wait.until(ExpectedConditions.titleContains(title));
+        return pollUntil("waitForPageTitleContains (polled)", ExpectedConditions.titleContains(title));
     }
     
     /**
      * Wait for URL to contain text
      */
     public boolean waitForUrlContains(String url) {
-        return wait.until(ExpectedConditions.urlContains(url));
+        if (ConfigReader.isMutationObserverWaitEnabled() && driver instanceof JavascriptExecutor) {
+            return profileWait("waitForUrlContains (observer)",
+                    () -> MutationObserverWait.waitForUrlContains(driver, url, getWaitTimeout()));
+        }
+        return pollUntil("waitForUrlContains (polled)", ExpectedConditions.urlContains(url));
+    }
+    
+    /**
+     * Run an event-driven wait, which returns as soon as its condition holds, through the wait profiler
+     */
+    private <T> T profileWait(String kind, Supplier<T> waitCall) {
+        if (!WaitProfiler.isEnabled()) {
+            return waitCall.get();
+        }
+        long start = System.currentTimeMillis();
+        boolean satisfied = false;
+        try {
+            T result = waitCall.get();
+            satisfied = true;
+            return result;
+        } finally {
+            long waited = System.currentTimeMillis() - start;
+            WaitProfiler.record(kind, waited, satisfied ? waited : -1);
+        }
+    }
+    
+    /**
+     * Poll condition with the WebDriverWait, through the wait profiler when profile.waits is enabled
+     */
+    private <T> T pollUntil(String kind, ExpectedCondition<T> condition) {
+        if (!WaitProfiler.isEnabled()) {
+            return wait.until(condition);
+        }
+        long start = System.currentTimeMillis();
+        boolean satisfied = false;
+        try {
+            T result = wait.until(WaitProfiler.observe(condition));
+            satisfied = true;
+            return result;
+        } finally {
+            WaitProfiler.recordPolled(kind, start, satisfied);
+        }
     }
     
     /**
      * Click element with wait
      */
     public void clickElement(By locator) {
-        WebElement element = waitForElementClickable(locator);
-        element.click();
+        useElement(locator, () -> waitForElementClickable(locator), element -> element.isDisplayed() && element.isEnabled(), element -> {
+            element.click();
+            return null;
+        });
     }
     
     /**
      * Send keys to element with wait
      */
     public void sendKeysToElement(By locator, String text) {
-        WebElement element = waitForElementVisible(locator);
-        element.clear();
-        element.sendKeys(text);
+        useElement(locator, () -> waitForElementVisible(locator), WebElement::isDisplayed, element -> {
+            element.clear();
+            element.sendKeys(text);
+            return null;
+        });
+    }
+    
+    /**
+     * Fill fields and optionally click submit (may be null) in a single script call that fires the
+     * input and change events v-model listens for, falling back to sendKeysToElement and clickElement
+     * when the form is not ready or browser.form.fill.script is disabled
+     */
+    public void fillForm(Map<By, String> fields, By submit) {
+        if (ConfigReader.isFormFillScriptEnabled() && fillFormWithScript(fields, submit)) {
+            return;
+        }
+        MetricsCollector.increment("form.fill.fallback");
+        for (Map.Entry<By, String> field : fields.entrySet()) {
+            sendKeysToElement(field.getKey(), field.getValue());
+        }
+        if (submit != null) {
+            clickElement(submit);
+        }
     }
     
     /**
      * Get element text with wait
      */
     public String getElementText(By locator) {
-        WebElement element = waitForElementVisible(locator);
-        return element.getText();
+        return useElement(locator, () -> waitForElementVisible(locator), WebElement::isDisplayed, WebElement::getText);
+    }
+    
+    /**
+     * Run action on the element cached for locator, re-locating it with the given wait
+     * when it is not cached, has gone stale or no longer passes the ready check the wait makes
+     */
+    private <T> T useElement(By locator, Supplier<WebElement> locate, Predicate<WebElement> ready, Function<WebElement, T> action) {
+        WebElement cached = ConfigReader.isElementCacheEnabled() ? elementCache.get(locator) : null;
+        if (cached != null) {
+            try {
+                if (!ready.test(cached)) {
+                    // Hidden or disabled since it was cached - wait for it like an uncached element
+                    throw new ElementNotInteractableException("Cached element is not ready: " + locator);
+                }
+                T result = action.apply(cached);
+                MetricsCollector.increment("element.cache.hits");
+                return result;
+            } catch (StaleElementReferenceException e) {
+                // Document replaced (navigation or re-render) - nothing cached for it is usable
+                MetricsCollector.increment("element.cache.stale");
+                elementCache.clear();
+            } catch (ElementNotInteractableException e) {
+                elementCache.remove(locator);
+            }
+        }
+        MetricsCollector.increment("element.cache.misses");
+        WebElement element = locate.get();
+        T result = action.apply(element);
+        if (ConfigReader.isElementCacheEnabled()) {
+            elementCache.put(locator, element);
+        }
+        return result;
     }
     
     /**
@@ -118,39 +289,282 @@ public class BasePage {
     }
     
     /**
-     * Check if element is displayed
+     * Check if element is displayed right now, without waiting
      */
     public boolean isElementDisplayed(By locator) {
+        return isElementDisplayed(locator, Duration.ZERO);
+    }
+    
+    /**
+     * Check if element is displayed, waiting up to the given budget without the implicit wait
+     */
+    public boolean isElementDisplayed(By locator, Duration budget) {
+        return checkElements(locator, budget, WebElement::isDisplayed);
+    }
+    
+    /**
+     * Check if element is enabled right now, without waiting
+     */
+    public boolean isElementEnabled(By locator) {
+        return isElementEnabled(locator, Duration.ZERO);
+    }
+    
+    /**
+     * Check if element is enabled, waiting up to the given budget without the implicit wait
+     */
+    public boolean isElementEnabled(By locator, Duration budget) {
+        return checkElements(locator, budget, WebElement::isEnabled);
+    }
+    
+    /**
+     * Check if element is present in the DOM, waiting up to the given budget without the implicit wait
+     */
+    public boolean isElementPresent(By locator, Duration budget) {
+        return checkElements(locator, budget, element -> true);
+    }
+    
+    /**
+     * Check if element is absent or hidden, waiting up to the given budget for it to go away
+     */
+    public boolean isElementNotDisplayed(By locator, Duration budget) {
+        By compiled = LocatorCompiler.compile(locator);
+        return pollWithoutImplicitWait("element hidden check", budget,
+                () -> findElements(compiled).stream().noneMatch(element -> matches(element, WebElement::isDisplayed)));
+    }
+    
+    /**
+     * Get presence, visibility, enabled state and text of the first element for each locator
+     * from a single script execution; link-text locators are queried individually
+     */
+    @SuppressWarnings("unchecked")
+    public Map<By, ElementState> getElementStates(By... locators) {
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        List<By> scripted = new ArrayList<>();
+        List<List<String>> scriptLocators = new ArrayList<>();
+        for (By locator : locators) {
+            List<String> scriptLocator = PageScripts.toScriptLocator(LocatorCompiler.compile(locator));
+            if (scriptLocator == null || !(driver instanceof JavascriptExecutor)) {
+                MetricsCollector.increment("element.state.single.queries");
+                states.put(locator, queryElementState(locator));
+            } else {
+                scripted.add(locator);
+                scriptLocators.add(scriptLocator);
+            }
+        }
+        if (!scripted.isEmpty()) {
+            List<Map<String, Object>> results =
+                    (List<Map<String, Object>>) executeJavaScript(ELEMENT_STATES_SCRIPT, scriptLocators);
+            for (int i = 0; i < scripted.size(); i++) {
+                Map<String, Object> result = results.get(i);
+                states.put(scripted.get(i), result == null ? ElementState.absent()
+                        : new ElementState(true, Boolean.TRUE.equals(result.get("displayed")),
+                        Boolean.TRUE.equals(result.get("enabled")), String.valueOf(result.get("text"))));
+            }
+            MetricsCollector.increment("element.state.bulk.queries");
+            MetricsCollector.add("element.state.bulk.elements", scripted.size());
+            // findElement + isDisplayed/isEnabled per locator replaced by one executeScript
+            MetricsCollector.add("element.state.roundtrips.saved", scripted.size() * 2L - 1);
+        }
+        Map<By, ElementState> ordered = new LinkedHashMap<>();
+        for (By locator : locators) {
+            ordered.put(locator, states.get(locator));
+        }
+        return ordered;
+    }
+    
+    /**
+     * Get names of elements that do not satisfy the condition, re-querying all of them
+     * in one round trip until they do or browser.element.check.timeout runs out
+     */
+    protected List<String> getElementsNotMatching(Map<String, By> namedLocators, Predicate<ElementState> condition) {
+        long deadline = System.currentTimeMillis() + getElementCheckBudget().toMillis();
+        By[] locators = namedLocators.values().toArray(new By[0]);
+        while (true) {
+            Map<By, ElementState> states = getElementStates(locators);
+            List<String> failing = new ArrayList<>();
+            for (Map.Entry<String, By> entry : namedLocators.entrySet()) {
+                if (!condition.test(states.get(entry.getValue()))) {
+                    failing.add(entry.getKey());
+                }
+            }
+            if (failing.isEmpty() || System.currentTimeMillis() >= deadline) {
+                return failing;
+            }
+            sleepBeforeNextCheck();
+        }
+    }
+    
+    /**
+     * Run FILL_FORM_SCRIPT, returning false without changing the form if a field or the submit
+     * cannot be located in the page or is not ready
+     */
+    private boolean fillFormWithScript(Map<By, String> fields, By submit) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        List<List<String>> fieldLocators = new ArrayList<>();
+        for (By locator : fields.keySet()) {
+            List<String> scriptLocator = PageScripts.toScriptLocator(LocatorCompiler.compile(locator));
+            if (scriptLocator == null) {
+                return false;
+            }
+            fieldLocators.add(scriptLocator);
+        }
+        List<String> submitLocator = submit == null ? null : PageScripts.toScriptLocator(LocatorCompiler.compile(submit));
+        if (submit != null && submitLocator == null) {
+            return false;
+        }
+        Object failure;
         try {
-            return driver.findElement(locator).isDisplayed();
-        } catch (NoSuchElementException e) {
+            failure = executeJavaScript(FILL_FORM_SCRIPT, fieldLocators, new ArrayList<>(fields.values()), submitLocator);
+        } catch (JavascriptException e) {
+            failure = e.getMessage();
+        }
+        if (failure != null) {
+            MetricsCollector.increment("form.fill.script.rejected");
             return false;
         }
+        MetricsCollector.increment("form.fill.script");
+        // wait + clear + sendKeys per field and wait + click for submit replaced by one executeScript
+        MetricsCollector.add("form.fill.roundtrips.saved", fields.size() * 3L + (submit == null ? 0 : 2) - 1);
+        return true;
     }
     
     /**
-     * Check if element is enabled
+     * Query a single element state without the implicit wait
      */
-    public boolean isElementEnabled(By locator) {
+    private ElementState queryElementState(By locator) {
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
         try {
-            return driver.findElement(locator).isEnabled();
-        } catch (NoSuchElementException e) {
+            List<WebElement> elements = findElements(locator);
+            if (elements.isEmpty()) {
+                return ElementState.absent();
+            }
+            WebElement element = elements.get(0);
+            boolean displayed = element.isDisplayed();
+            return new ElementState(true, displayed, element.isEnabled(), displayed ? element.getText() : "");
+        } catch (StaleElementReferenceException e) {
+            return ElementState.absent();
+        } finally {
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
+        }
+    }
+    
+    /**
+     * Poll findElements until one element matches or the budget runs out, recording
+     * the time a negative implicit-wait lookup would have cost
+     */
+    private boolean checkElements(By locator, Duration budget, Predicate<WebElement> condition) {
+        long start = System.currentTimeMillis();
+        By compiled = LocatorCompiler.compile(locator);
+        boolean found = pollWithoutImplicitWait("element check", budget,
+                () -> findElements(compiled).stream().anyMatch(element -> matches(element, condition)));
+        long elapsed = System.currentTimeMillis() - start;
+        MetricsCollector.recordTime("element.check.time", elapsed);
+        if (!found) {
+            MetricsCollector.increment("element.check.negative");
+            long implicitWaitMillis = ConfigReader.getImplicitWait() * 1000L;
+            if (implicitWaitMillis > elapsed) {
+                MetricsCollector.add("element.check.time.saved.ms", implicitWaitMillis - elapsed);
+            }
+        }
+        return found;
+    }
+    
+    /**
+     * Evaluate condition with the implicit wait switched off until it holds or the budget runs out
+     */
+    private boolean pollWithoutImplicitWait(String kind, Duration budget, BooleanSupplier condition) {
+        long start = System.currentTimeMillis();
+        long deadline = start + budget.toMillis();
+        long lastFalse = -1;
+        boolean satisfied = false;
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            while (!condition.getAsBoolean()) {
+                lastFalse = System.currentTimeMillis();
+                if (lastFalse >= deadline) {
+                    return false;
+                }
+                sleepBeforeNextCheck();
+            }
+            satisfied = true;
+            return true;
+        } finally {
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
+            if (WaitProfiler.isEnabled()) {
+                WaitProfiler.recordPolled(kind, start, lastFalse, satisfied);
+            }
+        }
+    }
+    
+    private boolean matches(WebElement element, Predicate<WebElement> condition) {
+        try {
+            return condition.test(element);
+        } catch (StaleElementReferenceException e) {
             return false;
         }
     }
     
+    private void sleepBeforeNextCheck() {
+        try {
+            Thread.sleep(CHECK_POLLING_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during element check", e);
+        }
+    }
+    
+    private Duration getWaitTimeout() {
+        return Duration.ofSeconds(ConfigReader.getImplicitWait());
+    }
+    
+    /**
+     * Budget for checks on elements a page is expected to show, from browser.element.check.timeout
+     */
+    protected Duration getElementCheckBudget() {
+        return Duration.ofSeconds(ConfigReader.getElementCheckTimeout());
+    }
+    
     /**
      * Find all elements
      */
     public List<WebElement> findElements(By locator) {
-        return driver.findElements(locator);
+        if (!WaitProfiler.isEnabled()) {
+            return driver.findElements(locator);
+        }
+        long start = System.currentTimeMillis();
+        List<WebElement> elements = driver.findElements(locator);
+        if (elements.isEmpty()) {
+            recordImplicitWaitMiss(start);
+        }
+        return elements;
     }
     
     /**
      * Find single element
      */
     public WebElement findElement(By locator) {
-        return driver.findElement(locator);
+        if (!WaitProfiler.isEnabled()) {
+            return driver.findElement(locator);
+        }
+        long start = System.currentTimeMillis();
+        try {
+            return driver.findElement(locator);
+        } catch (NoSuchElementException e) {
+            recordImplicitWaitMiss(start);
+            throw e;
+        }
+    }
+    
+    /**
+     * Record a lookup that found nothing, which is all wasted time if it sat out the implicit wait
+     */
+    private void recordImplicitWaitMiss(long start) {
+        long waited = System.currentTimeMillis() - start;
+        if (waited >= CHECK_POLLING_MILLIS) {
+            WaitProfiler.record("implicit wait miss", waited, -1);
+        }
     }
     
     /**
@@ -3,6 +3,10 @@ package com.qa.orangehrm.pages;
 import com.qa.orangehrm.constants.AppConstants;
 import org.openqa.selenium.By;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Dashboard Page class for OrangeHRM application
  */
@@ -27,7 +31,7 @@ public class DashboardPage extends BasePage {
      * Check if dashboard is loaded
      */
     public boolean isDashboardLoaded() {
-        return isElementDisplayed(dashboardHeader);
+        return isElementDisplayed(dashboardHeader, getElementCheckBudget());
     }
     
     /**
@@ -63,49 +67,49 @@ public class DashboardPage extends BasePage {
      * Check if admin menu is displayed
      */
     public boolean isAdminMenuDisplayed() {
-        return isElementDisplayed(adminMenu);
+        return isElementDisplayed(adminMenu, getElementCheckBudget());
     }
     
     /**
      * Check if PIM menu is displayed
      */
     public boolean isPimMenuDisplayed() {
-        return isElementDisplayed(pimMenu);
+        return isElementDisplayed(pimMenu, getElementCheckBudget());
     }
     
     /**
      * Check if leave menu is displayed
      */
     public boolean isLeaveMenuDisplayed() {
-        return isElementDisplayed(leaveMenu);
+        return isElementDisplayed(leaveMenu, getElementCheckBudget());
     }
     
     /**
      * Check if time menu is displayed
      */
     public boolean isTimeMenuDisplayed() {
-        return isElementDisplayed(timeMenu);
+        return isElementDisplayed(timeMenu, getElementCheckBudget());
     }
     
     /**
      * Check if recruitment menu is displayed
      */
     public boolean isRecruitmentMenuDisplayed() {
-        return isElementDisplayed(recruitmentMenu);
+        return isElementDisplayed(recruitmentMenu, getElementCheckBudget());
     }
     
     /**
      * Check if my info menu is displayed
      */
     public boolean isMyInfoMenuDisplayed() {
-        return isElementDisplayed(myInfoMenu);
+        return isElementDisplayed(myInfoMenu, getElementCheckBudget());
     }
     
     /**
      * Check if performance menu is displayed
      */
     public boolean isPerformanceMenuDisplayed() {
-        return isElementDisplayed(performanceMenu);
+        return isElementDisplayed(performanceMenu, getElementCheckBudget());
     }
     
     /**
@@ -157,18 +161,40 @@ public class DashboardPage extends BasePage {
         clickElement(performanceMenu);
     }
     
+    /**
+     * Get names of main menus that are not displayed, checked in a single round trip
+     */
+    public List<String> getHiddenMainMenus() {
+        Map<String, By> mainMenus = new LinkedHashMap<>();
+        mainMenus.put("Admin", adminMenu);
+        mainMenus.put("PIM", pimMenu);
+        mainMenus.put("Leave", leaveMenu);
+        mainMenus.put("Time", timeMenu);
+        mainMenus.put("Recruitment", recruitmentMenu);
+        mainMenus.put("My Info", myInfoMenu);
+        mainMenus.put("Performance", performanceMenu);
+        return getElementsNotMatching(mainMenus, ElementState::isDisplayed);
+    }
+    
+    /**
+     * Check if all main menus are displayed
+     */
+    public boolean areAllMainMenusDisplayed() {
+        return getHiddenMainMenus().isEmpty();
+    }
+    
     /**
      * Check if dashboard cards are displayed
      */
     public boolean areDashboardCardsDisplayed() {
-        return isElementDisplayed(dashboardCards);
+        return isElementDisplayed(dashboardCards, getElementCheckBudget());
     }
     
     /**
      * Check if quick launch section is displayed
      */
     public boolean isQuickLaunchSectionDisplayed() {
-        return isElementDisplayed(quickLaunchSection);
+        return isElementDisplayed(quickLaunchSection, getElementCheckBudget());
     }
     
     /**
@@ -0,0 +1,56 @@
+package com.qa.orangehrm.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Element Cache class holding located elements of one page object, keyed by locator
+ * and valid only for the URL they were found on
+ */
+public class ElementCache {
+    
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private String url;
+    
+    /**
+     * Get cached element, or null if the locator has not been located on the current URL
+     */
+    public WebElement get(By locator) {
+        return elements.get(locator);
+    }
+    
+    /**
+     * Cache element found for locator
+     */
+    public void put(By locator, WebElement element) {
+        elements.put(locator, element);
+    }
+    
+    /**
+     * Forget a single element, e.g. one that is no longer interactable
+     */
+    public void remove(By locator) {
+        elements.remove(locator);
+    }
+    
+    /**
+     * Record the current URL, dropping all elements if the page has changed
+     */
+    public void onUrl(String currentUrl) {
+        if (!Objects.equals(url, currentUrl)) {
+            elements.clear();
+            url = currentUrl;
+        }
+    }
+    
+    /**
+     * Drop all elements, e.g. after the document was replaced
+     */
+    public void clear() {
+        elements.clear();
+    }
+}
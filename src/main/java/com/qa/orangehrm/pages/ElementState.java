@@ -0,0 +1,51 @@
+package com.qa.orangehrm.pages;
+
+/**
+ * Element State class holding presence, visibility, enabled state and text of the
+ * first element matching a locator, as captured by a bulk state query
+ */
+public class ElementState {
+    
+    private static final ElementState ABSENT = new ElementState(false, false, false, "");
+    
+    private final boolean present;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final String text;
+    
+    public ElementState(boolean present, boolean displayed, boolean enabled, String text) {
+        this.present = present;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.text = text;
+    }
+    
+    /**
+     * Get state of an element that is not in the DOM
+     */
+    public static ElementState absent() {
+        return ABSENT;
+    }
+    
+    public boolean isPresent() {
+        return present;
+    }
+    
+    public boolean isDisplayed() {
+        return displayed;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public String getText() {
+        return text;
+    }
+    
+    @Override
+    public String toString() {
+        return "ElementState{present=" + present + ", displayed=" + displayed + ", enabled=" + enabled
+                + ", text='" + text + "'}";
+    }
+}
@@ -2,8 +2,13 @@ package com.qa.orangehrm.pages;
 
 import com.qa.orangehrm.constants.AppConstants;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Login Page class for OrangeHRM application
  */
@@ -18,6 +23,13 @@ public class LoginPage extends BasePage {
     private final By forgotPasswordLink = By.className("oxd-text--p");
     private final By orangeHRMLogo = By.className("orangehrm-login-branding");
     
+    // Outcome of a submitted login, checked in one round trip per poll
+    private static final String LOGIN_OUTCOME_SCRIPT =
+            "if (location.href.indexOf('/dashboard') >= 0) return 'dashboard';"
+            + "if (document.querySelector('.oxd-alert-content-text')) return 'invalid';"
+            + "if (document.querySelector('.oxd-input-field-error-message')) return 'required';"
+            + "return null;";
+    
     /**
      * Navigate to login page
      */
@@ -47,12 +59,22 @@ public class LoginPage extends BasePage {
     }
     
     /**
-     * Login with credentials
+     * Login with credentials, filling both fields and submitting in one round trip
+     * (enterUsername, enterPassword and clickLoginButton are the fallback)
      */
     public void login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
+        Map<By, String> credentials = new LinkedHashMap<>();
+        credentials.put(usernameField, username);
+        credentials.put(passwordField, password);
+        fillForm(credentials, loginButton);
+    }
+    
+    /**
+     * Wait for the outcome of a submitted login: "dashboard", "invalid" (credentials rejected)
+     * or "required" (a field failed validation)
+     */
+    public String waitForLoginOutcome() {
+        return wait.until(webDriver -> (String) ((JavascriptExecutor) webDriver).executeScript(LOGIN_OUTCOME_SCRIPT));
     }
     
     /**
@@ -66,14 +88,14 @@ public class LoginPage extends BasePage {
      * Check if login form is displayed
      */
     public boolean isLoginFormDisplayed() {
-        return isElementDisplayed(loginForm);
+        return isElementDisplayed(loginForm, getElementCheckBudget());
     }
     
     /**
      * Check if login error is displayed
      */
     public boolean isLoginErrorDisplayed() {
-        return isElementDisplayed(loginError);
+        return isElementDisplayed(loginError, getElementCheckBudget());
     }
     
     /**
@@ -87,14 +109,14 @@ public class LoginPage extends BasePage {
      * Check if forgot password link is displayed
      */
     public boolean isForgotPasswordLinkDisplayed() {
-        return isElementDisplayed(forgotPasswordLink);
+        return isElementDisplayed(forgotPasswordLink, getElementCheckBudget());
     }
     
     /**
      * Check if OrangeHRM logo is displayed
      */
     public boolean isOrangeHRMLogoDisplayed() {
-        return isElementDisplayed(orangeHRMLogo);
+        return isElementDisplayed(orangeHRMLogo, getElementCheckBudget());
     }
     
     /**
@@ -145,20 +167,56 @@ public class LoginPage extends BasePage {
      * Check if username field is enabled
      */
     public boolean isUsernameFieldEnabled() {
-        return isElementEnabled(usernameField);
+        return isElementEnabled(usernameField, getElementCheckBudget());
     }
     
     /**
      * Check if password field is enabled
      */
     public boolean isPasswordFieldEnabled() {
-        return isElementEnabled(passwordField);
+        return isElementEnabled(passwordField, getElementCheckBudget());
     }
     
     /**
      * Check if login button is enabled
      */
     public boolean isLoginButtonEnabled() {
-        return isElementEnabled(loginButton);
+        return isElementEnabled(loginButton, getElementCheckBudget());
+    }
+    
+    /**
+     * Get names of login page elements that are not displayed, checked in a single round trip
+     */
+    public List<String> getHiddenLoginPageElements() {
+        Map<String, By> elements = new LinkedHashMap<>();
+        elements.put("Login form", loginForm);
+        elements.put("OrangeHRM logo", orangeHRMLogo);
+        elements.put("Forgot password link", forgotPasswordLink);
+        return getElementsNotMatching(elements, ElementState::isDisplayed);
+    }
+    
+    /**
+     * Get names of login form fields that are not enabled, checked in a single round trip
+     */
+    public List<String> getDisabledLoginFields() {
+        Map<String, By> fields = new LinkedHashMap<>();
+        fields.put("Username field", usernameField);
+        fields.put("Password field", passwordField);
+        fields.put("Login button", loginButton);
+        return getElementsNotMatching(fields, ElementState::isEnabled);
+    }
+    
+    /**
+     * Check if all login page elements are displayed
+     */
+    public boolean areLoginPageElementsDisplayed() {
+        return getHiddenLoginPageElements().isEmpty();
+    }
+    
+    /**
+     * Check if all login form fields are enabled
+     */
+    public boolean areLoginFieldsEnabled() {
+        return getDisabledLoginFields().isEmpty();
     }
 }
@@ -0,0 +1,170 @@
+package com.qa.orangehrm.pages;
+
+import com.qa.orangehrm.constants.AppConstants;
+import com.qa.orangehrm.factory.DriverFactory;
+import com.qa.orangehrm.utils.ApiAuthenticator;
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.net.URI;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Session Cache class to log in through the UI once per worker thread and credential set,
+ * then reuse the captured cookies and web storage to open the dashboard already authenticated
+ */
+public class SessionCache {
+    
+    private static final String CAPTURE_STORAGE_SCRIPT =
+            "function dump(storage) {"
+            + "  var items = {};"
+            + "  for (var i = 0; i < storage.length; i++) { var key = storage.key(i); items[key] = storage.getItem(key); }"
+            + "  return items;"
+            + "}"
+            + "return {local: dump(window.localStorage), session: dump(window.sessionStorage)};";
+    
+    private static final String RESTORE_STORAGE_SCRIPT =
+            "var local = arguments[0], session = arguments[1];"
+            + "window.localStorage.clear(); window.sessionStorage.clear();"
+            + "for (var key in local) { window.localStorage.setItem(key, local[key]); }"
+            + "for (var key in session) { window.sessionStorage.setItem(key, session[key]); }";
+    
+    private static final ThreadLocal<Map<String, Session>> workerSessions = ThreadLocal.withInitial(HashMap::new);
+    
+    /**
+     * Open the dashboard logged in with the default credentials
+     */
+    public static void loginWithDefaultCredentials() {
+        login(AppConstants.DEFAULT_USERNAME, AppConstants.DEFAULT_PASSWORD);
+    }
+    
+    /**
+     * Open the dashboard logged in as the given user, injecting this worker's cached session
+     * and logging in afresh (session.login.mode) when there is none or it is no longer valid
+     */
+    public static void login(String username, String password) {
+        WebDriver driver = DriverFactory.getDriver();
+        String key = username + "\n" + password;
+        Session session = ConfigReader.isSessionCacheEnabled() ? workerSessions.get().get(key) : null;
+        if (session != null) {
+            long start = System.currentTimeMillis();
+            if (!session.isExpired() && inject(driver, session)) {
+                MetricsCollector.increment("session.cache.hits");
+                MetricsCollector.recordTime("session.cache.inject.time", System.currentTimeMillis() - start);
+                return;
+            }
+            MetricsCollector.increment("session.cache.expired");
+            workerSessions.get().remove(key);
+        }
+        MetricsCollector.increment("session.cache.misses");
+        long start = System.currentTimeMillis();
+        if (!ConfigReader.isApiLoginEnabled() || !loginThroughApi(driver, username, password)) {
+            loginThroughUi(driver, username, password);
+        }
+        MetricsCollector.recordTime("session.cache.login.time", System.currentTimeMillis() - start);
+        if (ConfigReader.isSessionCacheEnabled()) {
+            workerSessions.get().put(key, capture(driver));
+        }
+    }
+    
+    /**
+     * Forget this worker's cached sessions of a user, e.g. after logging it out
+     */
+    public static void invalidate(String username) {
+        workerSessions.get().keySet().removeIf(key -> key.startsWith(username + "\n"));
+    }
+    
+    /**
+     * Log in over HTTP without touching the login form, false if the UI should be used instead
+     */
+    private static boolean loginThroughApi(WebDriver driver, String username, String password) {
+        try {
+            if (ApiAuthenticator.login(driver, username, password) && new DashboardPage().isDashboardLoaded()) {
+                MetricsCollector.increment("session.login.api");
+                return true;
+            }
+        } catch (RuntimeException e) {
+            System.out.println("API login failed, logging in through the UI: " + e.getMessage());
+        }
+        MetricsCollector.increment("session.login.api.fallback");
+        return false;
+    }
+    
+    private static void loginThroughUi(WebDriver driver, String username, String password) {
+        if (!driver.getCurrentUrl().contains("auth/login")) {
+            driver.get(AppConstants.LOGIN_PAGE_URL);
+        }
+        LoginPage loginPage = new LoginPage();
+        loginPage.waitForLoginForm();
+        loginPage.login(username, password);
+        new DashboardPage().waitForDashboardToLoad();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Session capture(WebDriver driver) {
+        Map<String, Map<String, String>> storage =
+                (Map<String, Map<String, String>>) ((JavascriptExecutor) driver).executeScript(CAPTURE_STORAGE_SCRIPT);
+        URI url = URI.create(driver.getCurrentUrl());
+        return new Session(url.getScheme() + "://" + url.getAuthority(), driver.manage().getCookies(),
+                storage.get("local"), storage.get("session"));
+    }
+    
+    /**
+     * Restore the session on the application origin, open the dashboard and check
+     * that the server did not send us back to the login page
+     */
+    private static boolean inject(WebDriver driver, Session session) {
+        try {
+            // Cookies can only be set for the domain of the current page
+            if (!driver.getCurrentUrl().startsWith(session.origin)) {
+                driver.get(session.origin);
+            }
+            driver.manage().deleteAllCookies();
+            for (Cookie cookie : session.cookies) {
+                driver.manage().addCookie(cookie);
+            }
+            ((JavascriptExecutor) driver).executeScript(RESTORE_STORAGE_SCRIPT, session.localStorage, session.sessionStorage);
+            driver.get(AppConstants.DASHBOARD_URL);
+            return !driver.getCurrentUrl().contains("auth/login") && new DashboardPage().isDashboardLoaded();
+        } catch (WebDriverException e) {
+            System.out.println("Cached session could not be restored: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Cookies and web storage of one logged-in user
+     */
+    private static class Session {
+        private final String origin;
+        private final Set<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final Map<String, String> sessionStorage;
+        private final long capturedAt = System.currentTimeMillis();
+        
+        Session(String origin, Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage) {
+            this.origin = origin;
+            this.cookies = cookies;
+            this.localStorage = localStorage;
+            this.sessionStorage = sessionStorage;
+        }
+        
+        /**
+         * Older than session.cache.max.age or holding a cookie that has expired
+         */
+        private boolean isExpired() {
+            if (System.currentTimeMillis() - capturedAt > ConfigReader.getSessionCacheMaxAge() * 1000L) {
+                return true;
+            }
+            Date now = new Date();
+            return cookies.stream().anyMatch(cookie -> cookie.getExpiry() != null && cookie.getExpiry().before(now));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.qa.orangehrm.utils;
+
+import com.qa.orangehrm.constants.AppConstants;
+import com.qa.orangehrm.factory.DriverFactory;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * API Authenticator utility class to log in to OrangeHRM over plain HTTP (CSRF token fetch
+ * and credential POST) and hand the resulting session cookies to the browser
+ */
+public class ApiAuthenticator {
+    
+    // <auth-login :token="&quot;...&quot;"> on the login page
+    private static final Pattern CSRF_TOKEN = Pattern.compile(":token=\"(?:&quot;)?([^\"&]+)(?:&quot;)?\"");
+    private static HttpClient client;
+    
+    /**
+     * Log in with app.username and app.password and open the dashboard
+     */
+    public static boolean login(WebDriver driver) {
+        return login(driver, ConfigReader.getUsername(), ConfigReader.getPassword());
+    }
+    
+    /**
+     * Log in over HTTP, inject the session cookies into the browser and open the dashboard;
+     * returns false if the browser still ends up on the login page
+     */
+    public static boolean login(WebDriver driver, String username, String password) {
+        long start = System.currentTimeMillis();
+        List<HttpCookie> cookies = fetchSessionCookies(username, password);
+        MetricsCollector.recordTime("login.api.http.time", System.currentTimeMillis() - start);
+        injectCookies(driver, cookies);
+        driver.get(AppConstants.DASHBOARD_URL);
+        return !driver.getCurrentUrl().contains("auth/login");
+    }
+    
+    /**
+     * Run the login flow over HTTP and return the authenticated session cookies; every request
+     * times out after browser.page.load.timeout so a stalled server falls back to the UI login
+     */
+    public static List<HttpCookie> fetchSessionCookies(String username, String password) {
+        // One client for all logins, so cookies are kept per login instead of in the client
+        CookieManager cookieManager = new CookieManager(null, CookiePolicy.ACCEPT_ALL);
+        Duration timeout = Duration.ofSeconds(ConfigReader.getPageLoadTimeout());
+        URI loginUri = URI.create(AppConstants.LOGIN_PAGE_URL);
+        try {
+            HttpResponse<String> loginPage = send(cookieManager, HttpRequest.newBuilder(loginUri).timeout(timeout).GET(),
+                    HttpResponse.BodyHandlers.ofString());
+            Matcher token = CSRF_TOKEN.matcher(loginPage.body());
+            if (!token.find()) {
+                throw new IllegalStateException("No CSRF token on " + loginUri + " (HTTP " + loginPage.statusCode() + ")");
+            }
+            
+            String form = "_token=" + encode(token.group(1)) + "&username=" + encode(username) + "&password=" + encode(password);
+            HttpResponse<Void> validate = send(cookieManager, HttpRequest.newBuilder(loginUri.resolve("validate"))
+                            .timeout(timeout)
+                            .header("Content-Type", "application/x-www-form-urlencoded")
+                            .POST(HttpRequest.BodyPublishers.ofString(form)),
+                    HttpResponse.BodyHandlers.discarding());
+            String location = validate.headers().firstValue("Location").orElse("");
+            if (validate.statusCode() / 100 != 3 || location.contains("auth/login")) {
+                throw new IllegalStateException("Login rejected for " + username + " (HTTP " + validate.statusCode()
+                        + ", redirect to '" + location + "')");
+            }
+            return cookieManager.getCookieStore().get(loginUri);
+        } catch (IOException e) {
+            throw new IllegalStateException("HTTP login failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during HTTP login", e);
+        }
+    }
+    
+    /**
+     * Send a request with the cookies of this login and store the cookies it sets
+     */
+    private static <T> HttpResponse<T> send(CookieManager cookieManager, HttpRequest.Builder request,
+                                            HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        URI uri = request.copy().build().uri();
+        for (Map.Entry<String, List<String>> header : cookieManager.get(uri, Map.of()).entrySet()) {
+            for (String value : header.getValue()) {
+                request.header(header.getKey(), value);
+            }
+        }
+        HttpResponse<T> response = getClient().send(request.build(), bodyHandler);
+        cookieManager.put(uri, response.headers().map());
+        return response;
+    }
+    
+    private static synchronized HttpClient getClient() {
+        if (client == null) {
+            client = HttpClient.newBuilder()
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()))
+                    .build();
+        }
+        return client;
+    }
+    
+    /**
+     * Set cookies through DevTools on Chromium, which works before the first navigation;
+     * other browsers must first be on the application origin
+     */
+    private static void injectCookies(WebDriver driver, List<HttpCookie> cookies) {
+        URI loginUri = URI.create(AppConstants.LOGIN_PAGE_URL);
+        WebDriver browser = DriverFactory.unwrap(driver);
+        if (browser instanceof ChromiumDriver) {
+            for (HttpCookie cookie : cookies) {
+                Map<String, Object> parameters = new HashMap<>();
+                parameters.put("name", cookie.getName());
+                parameters.put("value", cookie.getValue());
+                parameters.put("url", loginUri.getScheme() + "://" + loginUri.getAuthority() + cookiePath(cookie));
+                parameters.put("secure", cookie.getSecure());
+                parameters.put("httpOnly", cookie.isHttpOnly());
+                ((ChromiumDriver) browser).executeCdpCommand("Network.setCookie", parameters);
+            }
+            return;
+        }
+        String origin = loginUri.getScheme() + "://" + loginUri.getAuthority();
+        String currentUrl = driver.getCurrentUrl();
+        if (currentUrl == null || !currentUrl.startsWith(origin)) {
+            driver.get(origin);
+        }
+        for (HttpCookie cookie : cookies) {
+            driver.manage().addCookie(new Cookie.Builder(cookie.getName(), cookie.getValue())
+                    .path(cookiePath(cookie))
+                    .isSecure(cookie.getSecure())
+                    .isHttpOnly(cookie.isHttpOnly())
+                    .build());
+        }
+    }
+    
+    private static String cookiePath(HttpCookie cookie) {
+        return cookie.getPath() == null ? "/" : cookie.getPath();
+    }
+    
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package com.qa.orangehrm.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compound locator matching a CSS selector whose own text equals or contains a text,
+ * the CSS equivalent of XPath predicates such as [text()='Admin'] and [contains(text(),'Logout')]
+ */
+public class ByCssText extends By {
+    
+    public static final String EQUALS = "equals";
+    public static final String CONTAINS = "contains";
+    
+    private static final String FIND_SCRIPT = PageScripts.FIND_FUNCTION
+            + "return find(arguments[1], arguments[0] || document);";
+    
+    private final String cssSelector;
+    private final String mode;
+    private final String text;
+    
+    public ByCssText(String cssSelector, String mode, String text) {
+        this.cssSelector = cssSelector;
+        this.mode = mode;
+        this.text = text;
+    }
+    
+    public String getCssSelector() {
+        return cssSelector;
+    }
+    
+    /**
+     * Get [strategy, css, mode, text] understood by the in-page find() function
+     */
+    public List<String> toScriptLocator() {
+        return List.of("csstext", cssSelector, mode, text);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<WebElement> findElements(SearchContext context) {
+        WebElement root = context instanceof WebElement ? (WebElement) context : null;
+        WebDriver driver = root instanceof WrapsDriver ? ((WrapsDriver) root).getWrappedDriver()
+                : context instanceof WebDriver ? (WebDriver) context : null;
+        if (!(driver instanceof JavascriptExecutor)) {
+            throw new IllegalArgumentException("ByCssText needs a JavaScript capable driver: " + context);
+        }
+        Object result = ((JavascriptExecutor) driver).executeScript(FIND_SCRIPT, root, toScriptLocator());
+        return result == null ? new ArrayList<>() : (List<WebElement>) result;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ByCssText)) {
+            return false;
+        }
+        ByCssText other = (ByCssText) o;
+        return cssSelector.equals(other.cssSelector) && mode.equals(other.mode) && text.equals(other.text);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(cssSelector, mode, text);
+    }
+    
+    @Override
+    public String toString() {
+        return "By.cssText: " + cssSelector + " {text " + mode + " '" + text + "'}";
+    }
+}
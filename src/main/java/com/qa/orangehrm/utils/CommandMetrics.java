@@ -0,0 +1,156 @@
+package com.qa.orangehrm.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Command Metrics utility class to record WebDriver command latency in per-thread histograms,
+ * summarized per test and aggregated over all threads for the suite
+ */
+public class CommandMetrics {
+    
+    // Upper bounds in milliseconds of all buckets but the last, which is open ended
+    private static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+    private static final int TOP_COMMANDS = 5;
+    
+    private static final List<ThreadStats> allThreads = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<ThreadStats> threadStats = ThreadLocal.withInitial(() -> {
+        ThreadStats stats = new ThreadStats();
+        allThreads.add(stats);
+        return stats;
+    });
+    
+    /**
+     * Record one command on the current thread
+     */
+    public static void record(String command, long nanos) {
+        ThreadStats stats = threadStats.get();
+        stats.suite.computeIfAbsent(command, key -> new Histogram()).record(nanos);
+        stats.test.computeIfAbsent(command, key -> new Histogram()).record(nanos);
+    }
+    
+    /**
+     * Start collecting commands for a new test on the current thread
+     */
+    public static void startTest() {
+        threadStats.get().test.clear();
+    }
+    
+    /**
+     * Summarize commands of the current thread's test, or null if none were recorded
+     */
+    public static String collectTestSummary(long testDurationMillis) {
+        Map<String, Histogram> test = threadStats.get().test;
+        if (test.isEmpty()) {
+            return null;
+        }
+        String summary = summarize(test, testDurationMillis);
+        test.clear();
+        return summary;
+    }
+    
+    /**
+     * Get per-command latency lines aggregated over all threads, slowest total first
+     */
+    public static List<String> getSuiteSummary() {
+        Map<String, Histogram> merged = new TreeMap<>();
+        for (ThreadStats stats : allThreads) {
+            for (Map.Entry<String, Histogram> entry : stats.suite.entrySet()) {
+                merged.computeIfAbsent(entry.getKey(), key -> new Histogram()).merge(entry.getValue());
+            }
+        }
+        List<Map.Entry<String, Histogram>> entries = new ArrayList<>(merged.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().totalNanos, a.getValue().totalNanos));
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Histogram> entry : entries) {
+            lines.add(entry.getKey() + ": " + entry.getValue());
+        }
+        return lines;
+    }
+    
+    private static String summarize(Map<String, Histogram> commands, long testDurationMillis) {
+        long calls = 0;
+        long totalNanos = 0;
+        for (Histogram histogram : commands.values()) {
+            calls += histogram.count;
+            totalNanos += histogram.totalNanos;
+        }
+        long commandMillis = totalNanos / 1_000_000;
+        StringBuilder summary = new StringBuilder("WebDriver commands: " + calls + " call(s), " + commandMillis + "ms");
+        if (testDurationMillis > 0) {
+            summary.append(" of ").append(testDurationMillis).append("ms test time (")
+                    .append(commandMillis * 100 / testDurationMillis).append("%)");
+        }
+        List<Map.Entry<String, Histogram>> entries = new ArrayList<>(commands.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().totalNanos, a.getValue().totalNanos));
+        for (Map.Entry<String, Histogram> entry : entries.subList(0, Math.min(TOP_COMMANDS, entries.size()))) {
+            summary.append("; ").append(entry.getKey()).append(" ").append(entry.getValue());
+        }
+        return summary.toString();
+    }
+    
+    /**
+     * Suite and current-test histograms of one thread; only that thread writes to them
+     */
+    private static class ThreadStats {
+        private final Map<String, Histogram> suite = new HashMap<>();
+        private final Map<String, Histogram> test = new HashMap<>();
+    }
+    
+    /**
+     * Fixed-bucket latency histogram
+     */
+    private static class Histogram {
+        private final long[] buckets = new long[BUCKET_BOUNDS_MILLIS.length + 1];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        
+        private void record(long nanos) {
+            long millis = nanos / 1_000_000;
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && millis >= BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket]++;
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+        
+        private void merge(Histogram other) {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] += other.buckets[i];
+            }
+            count += other.count;
+            totalNanos += other.totalNanos;
+            maxNanos = Math.max(maxNanos, other.maxNanos);
+        }
+        
+        /**
+         * Upper bound of the bucket holding the given percentile, capped by the max
+         */
+        private long percentileMillis(double percentile) {
+            long rank = (long) Math.ceil(count * percentile);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank && i < BUCKET_BOUNDS_MILLIS.length) {
+                    return Math.min(BUCKET_BOUNDS_MILLIS[i], maxNanos / 1_000_000);
+                }
+            }
+            return maxNanos / 1_000_000;
+        }
+        
+        @Override
+        public String toString() {
+            return "n=" + count + ", total=" + totalNanos / 1_000_000 + "ms, avg=" + (count == 0 ? 0 : totalNanos / count / 1_000_000)
+                    + "ms, p50<=" + percentileMillis(0.5) + "ms, p95<=" + percentileMillis(0.95)
+                    + "ms, max=" + maxNanos / 1_000_000 + "ms";
+        }
+    }
+}
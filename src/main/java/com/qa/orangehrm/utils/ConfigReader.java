@@ -1,7 +1,10 @@
 package com.qa.orangehrm.utils;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -25,10 +28,18 @@ public class ConfigReader {
     }
     
     /**
-     * Get property value as String
+     * Get property value as String, a -Dkey=value system property overrides the config file
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return System.getProperty(key, properties.getProperty(key));
+    }
+    
+    /**
+     * Get property value as String with default
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
     }
     
     /**
@@ -39,6 +50,13 @@ public class ConfigReader {
         return Integer.parseInt(value);
     }
     
+    /**
+     * Get property value as Integer with default
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        return Integer.parseInt(getProperty(key, String.valueOf(defaultValue)));
+    }
+    
     /**
      * Get property value as Boolean
      */
@@ -47,6 +65,26 @@ public class ConfigReader {
         return Boolean.parseBoolean(value);
     }
     
+    /**
+     * Get property value as Boolean with default
+     */
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getProperty(key, String.valueOf(defaultValue)));
+    }
+    
+    /**
+     * Get comma separated property value as List
+     */
+    public static List<String> getListProperty(String key, String defaultValue) {
+        List<String> values = new ArrayList<>();
+        for (String value : getProperty(key, defaultValue).split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+    
     /**
      * Get application URL
      */
@@ -89,6 +127,62 @@ public class ConfigReader {
         return getIntProperty("browser.implicit.wait");
     }
     
+    /**
+     * Get budget in seconds for presence/visibility checks, which run without the implicit wait
+     */
+    public static int getElementCheckTimeout() {
+        return getIntProperty("browser.element.check.timeout", getImplicitWait());
+    }
+    
+    /**
+     * Check if visibility/clickable/URL waits should use an in-page MutationObserver instead of polling
+     */
+    public static boolean isMutationObserverWaitEnabled() {
+        return getBooleanProperty("browser.wait.mutation.observer", true);
+    }
+    
+    /**
+     * Check if page objects should reuse elements they have already located
+     */
+    public static boolean isElementCacheEnabled() {
+        return getBooleanProperty("browser.element.cache", true);
+    }
+    
+    /**
+     * Check if XPath locators should be rewritten into equivalent CSS selectors
+     */
+    public static boolean isLocatorCompileEnabled() {
+        return getBooleanProperty("browser.locator.compile", true);
+    }
+    
+    /**
+     * Check if forms should be filled and submitted in a single script call
+     */
+    public static boolean isFormFillScriptEnabled() {
+        return getBooleanProperty("browser.form.fill.script", true);
+    }
+    
+    /**
+     * Check if page readiness should wait for network idle instead of a fixed sleep
+     */
+    public static boolean isNetworkIdleWaitEnabled() {
+        return getBooleanProperty("browser.network.idle.wait", true);
+    }
+    
+    /**
+     * Get time without in-flight requests after which the page counts as idle
+     */
+    public static int getNetworkIdleQuietMillis() {
+        return getIntProperty("browser.network.idle.quiet.ms", 500);
+    }
+    
+    /**
+     * Get maximum seconds to wait for network idle
+     */
+    public static int getNetworkIdleTimeout() {
+        return getIntProperty("browser.network.idle.timeout", 10);
+    }
+    
     /**
      * Get page load timeout
      */
@@ -137,4 +231,306 @@ public class ConfigReader {
     public static int getFluentWaitPolling() {
         return getIntProperty("browser.fluent.wait.polling");
     }
+    
+    /**
+     * Check if driver pooling is enabled
+     */
+    public static boolean isDriverPoolEnabled() {
+        return getBooleanProperty("driver.pool.enabled", false);
+    }
+    
+    /**
+     * Get number of pooled browsers
+     */
+    public static int getDriverPoolSize() {
+        return getIntProperty("driver.pool.size", 2);
+    }
+    
+    /**
+     * Get number of leases before a pooled browser is recycled
+     */
+    public static int getDriverPoolMaxLeases() {
+        return getIntProperty("driver.pool.max.leases", 20);
+    }
+    
+    /**
+     * Get maximum time to wait for a pooled browser in seconds
+     */
+    public static int getDriverPoolLeaseTimeout() {
+        return getIntProperty("driver.pool.lease.timeout", 120);
+    }
+    
+    /**
+     * Check if driver services should be reused across sessions
+     */
+    public static boolean isDriverServiceReuseEnabled() {
+        return getBooleanProperty("driver.service.reuse", true);
+    }
+    
+    /**
+     * Get driver service scope (thread or suite)
+     */
+    public static String getDriverServiceScope() {
+        return getProperty("driver.service.scope", "thread");
+    }
+    
+    /**
+     * Check if browsers should be quit on a background thread
+     */
+    public static boolean isDriverAsyncQuitEnabled() {
+        return getBooleanProperty("driver.async.quit", false);
+    }
+    
+    /**
+     * Check if the next test's browser should be launched while the current test runs
+     */
+    public static boolean isDriverPrelaunchEnabled() {
+        return getBooleanProperty("driver.prelaunch", false);
+    }
+    
+    /**
+     * Check if WebDriver command latency should be recorded
+     */
+    public static boolean isCommandMetricsEnabled() {
+        return getBooleanProperty("driver.command.metrics", false);
+    }
+    
+    /**
+     * Get maximum number of concurrent browsers (0 derives it from cores and free memory)
+     */
+    public static int getBrowserMaxConcurrent() {
+        return getIntProperty("browser.max.concurrent", 0);
+    }
+    
+    /**
+     * Get expected memory footprint of one browser in MB
+     */
+    public static int getBrowserMemoryPerInstanceMb() {
+        return getIntProperty("browser.memory.per.instance.mb", 512);
+    }
+    
+    /**
+     * Get maximum time to wait for a browser permit in seconds
+     */
+    public static int getBrowserAdmissionTimeout() {
+        return getIntProperty("browser.admission.timeout", 600);
+    }
+    
+    /**
+     * Get directory for spawned browser PID files
+     */
+    public static String getBrowserPidDirectory() {
+        return getProperty("browser.pid.directory", "target");
+    }
+    
+    /**
+     * Check if images, fonts and third-party scripts should be blocked
+     */
+    public static boolean isResourceBlockingEnabled() {
+        return getBooleanProperty("browser.block.resources", false);
+    }
+    
+    /**
+     * Get DevTools resource types to block
+     */
+    public static List<String> getBlockedResourceTypes() {
+        return getListProperty("browser.block.resource.types", "Image,Font,Media");
+    }
+    
+    /**
+     * Get URL patterns to block
+     */
+    public static List<String> getBlockedUrlPatterns() {
+        return getListProperty("browser.block.url.patterns", "");
+    }
+    
+    /**
+     * Check if resolved browser/driver binaries should be cached on disk
+     */
+    public static boolean isDriverCacheEnabled() {
+        return getBooleanProperty("driver.cache.enabled", true);
+    }
+    
+    /**
+     * Get directory of the driver binary cache
+     */
+    public static String getDriverCacheDirectory() {
+        return getProperty("driver.cache.directory",
+                System.getProperty("user.home") + File.separator + ".cache" + File.separator + "orangehrm-selenium");
+    }
+    
+    /**
+     * Check if the TestNG worker count should be derived from machine resources
+     */
+    public static boolean isParallelAutoTuneEnabled() {
+        return getBooleanProperty("parallel.auto.tune", true);
+    }
+    
+    /**
+     * Get upper bound for auto-tuned worker threads (0 = no bound)
+     */
+    public static int getParallelMaxThreads() {
+        return getIntProperty("parallel.max.threads", 0);
+    }
+    
+    /**
+     * Get number of finished tests between parallelism adjustments
+     */
+    public static int getParallelAdjustInterval() {
+        return getIntProperty("parallel.adjust.interval", 5);
+    }
+    
+    /**
+     * Get system CPU load percentage above which parallelism is reduced
+     */
+    public static int getParallelCpuHighPercent() {
+        return getIntProperty("parallel.cpu.high.percent", 90);
+    }
+    
+    /**
+     * Get system CPU load percentage below which parallelism may grow
+     */
+    public static int getParallelCpuLowPercent() {
+        return getIntProperty("parallel.cpu.low.percent", 60);
+    }
+    
+    /**
+     * Get average browser admission wait in milliseconds above which parallelism may grow
+     */
+    public static int getParallelAdmissionWaitThreshold() {
+        return getIntProperty("parallel.admission.wait.threshold.ms", 2000);
+    }
+    
+    /**
+     * Check if waits should be profiled for wasted time
+     */
+    public static boolean isWaitProfilingEnabled() {
+        return getBooleanProperty("profile.waits", false);
+    }
+    
+    /**
+     * Check if logged-in sessions should be cached and injected per worker
+     */
+    public static boolean isSessionCacheEnabled() {
+        return getBooleanProperty("session.cache.enabled", true);
+    }
+    
+    /**
+     * Get seconds after which a cached session is replaced by a fresh login
+     */
+    public static int getSessionCacheMaxAge() {
+        return getIntProperty("session.cache.max.age", 1200);
+    }
+    
+    /**
+     * Check if fresh logins should go over HTTP instead of the login form
+     */
+    public static boolean isApiLoginEnabled() {
+        return "api".equalsIgnoreCase(getProperty("session.login.mode", "api"));
+    }
+    
+    /**
+     * Check if test methods should be ordered longest first from recorded durations
+     */
+    public static boolean isDurationSchedulingEnabled() {
+        return getBooleanProperty("schedule.by.duration", true);
+    }
+    
+    /**
+     * Get test duration history file, empty for test-durations.properties in the driver cache directory
+     */
+    public static String getDurationHistoryFile() {
+        return getProperty("schedule.history.file", "");
+    }
+    
+    /**
+     * Get index of this shard, from 0 to shard.total - 1
+     */
+    public static int getShardIndex() {
+        return getIntProperty("shard.index", 0);
+    }
+    
+    /**
+     * Get number of shards the suite is split across
+     */
+    public static int getShardTotal() {
+        return getIntProperty("shard.total", 1);
+    }
+    
+    /**
+     * Check if only this shard's part of the suite should run
+     */
+    public static boolean isShardingEnabled() {
+        return getShardTotal() > 1;
+    }
+    
+    /**
+     * Get how methods are spread over shards: count or duration
+     */
+    public static String getShardBalance() {
+        return getProperty("shard.balance", "count");
+    }
+    
+    /**
+     * Get directory where each shard writes the report data merged by ShardReports
+     */
+    public static String getShardReportDirectory() {
+        return getProperty("shard.report.directory", "test-output/shards");
+    }
+    
+    /**
+     * Check if tests should be skipped while the application is known to be down
+     */
+    public static boolean isCircuitBreakerEnabled() {
+        return getBooleanProperty("circuit.breaker.enabled", true);
+    }
+    
+    /**
+     * Get number of consecutive failures with the same environmental cause that opens the circuit
+     */
+    public static int getCircuitBreakerThreshold() {
+        return getIntProperty("circuit.breaker.threshold", 3);
+    }
+    
+    /**
+     * Get seconds the circuit stays open before a health probe may close it
+     */
+    public static int getCircuitBreakerCooldown() {
+        return getIntProperty("circuit.breaker.cooldown", 60);
+    }
+    
+    /**
+     * Get timeout in seconds of the HTTP health probe
+     */
+    public static int getCircuitBreakerProbeTimeout() {
+        return getIntProperty("circuit.breaker.probe.timeout", 5);
+    }
+    
+    /**
+     * Check if the health probe should run before the suite starts
+     */
+    public static boolean isCircuitBreakerPreflightEnabled() {
+        return getBooleanProperty("circuit.breaker.preflight", true);
+    }
+    
+    /**
+     * Check if @SharedDriver test classes keep one browser and login per worker
+     */
+    public static boolean isSharedDriverEnabled() {
+        return getBooleanProperty("shared.driver.enabled", true);
+    }
+    
+    /**
+     * Get the CSV or JSON-lines file of username/password/expected rows for the login matrix
+     */
+    public static String getLoginMatrixFile() {
+        return getProperty("data.login.matrix.file", "src/test/resources/testdata/login-matrix.csv");
+    }
+    
+    /**
+     * Get the seconds an AsyncSession command may take before its future fails
+     */
+    public static int getAsyncCommandTimeout() {
+        return getIntProperty("driver.async.command.timeout", 60);
+    }
 }
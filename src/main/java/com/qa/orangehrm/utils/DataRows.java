@@ -0,0 +1,239 @@
+package com.qa.orangehrm.utils;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Data Rows class to stream test data rows from a CSV (header line first) or JSON-lines file
+ * one line at a time, so files of any size never sit in memory. Rows are Object[] of String
+ * values for the requested columns, ready to return from a @DataProvider; poll() lets several
+ * threads drain one file without handing out a row twice, and shard() keeps every total-th row
+ */
+public class DataRows implements Iterator<Object[]>, Closeable {
+    
+    private static final Json JSON = new Json();
+    
+    private final String path;
+    private final boolean jsonLines;
+    private final List<String> columns;
+    private int shardIndex = 0;
+    private int shardTotal = 1;
+    
+    private BufferedReader reader;
+    private int[] csvPositions;
+    private int lineNumber;
+    private long rowNumber;
+    private Object[] nextRow;
+    private boolean finished;
+    
+    private DataRows(String path, boolean jsonLines, List<String> columns) {
+        this.path = path;
+        this.jsonLines = jsonLines;
+        this.columns = columns;
+    }
+    
+    /**
+     * Stream the given columns of a .csv or .jsonl/.ndjson file, or every CSV column if none are given;
+     * the file is only opened when the first row is read
+     */
+    public static DataRows open(String path, String... columns) {
+        String lowerCasePath = path.toLowerCase();
+        if (lowerCasePath.endsWith(".csv")) {
+            return new DataRows(path, false, Arrays.asList(columns));
+        }
+        if (lowerCasePath.endsWith(".jsonl") || lowerCasePath.endsWith(".ndjson")) {
+            if (columns.length == 0) {
+                throw new IllegalArgumentException("Columns must be named to read JSON lines from " + path);
+            }
+            return new DataRows(path, true, Arrays.asList(columns));
+        }
+        throw new IllegalArgumentException("Test data must be a .csv, .jsonl or .ndjson file: " + path);
+    }
+    
+    /**
+     * Keep only the rows whose number modulo total is index, so shards each read a disjoint share
+     */
+    public DataRows shard(int index, int total) {
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException("Shard index must be between 0 and " + (total - 1) + " but was " + index);
+        }
+        this.shardIndex = index;
+        this.shardTotal = total;
+        return this;
+    }
+    
+    /**
+     * Keep only this machine's rows when shard.total is above one; pair with @ShardedRows on the
+     * test method so ShardSelector runs it on every shard
+     */
+    public DataRows forCurrentShard() {
+        return ConfigReader.isShardingEnabled() ? shard(ConfigReader.getShardIndex(), ConfigReader.getShardTotal()) : this;
+    }
+    
+    @Override
+    public synchronized boolean hasNext() {
+        if (nextRow == null && !finished) {
+            nextRow = readRow();
+        }
+        return nextRow != null;
+    }
+    
+    @Override
+    public synchronized Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in " + path);
+        }
+        Object[] row = nextRow;
+        nextRow = null;
+        return row;
+    }
+    
+    /**
+     * Take the next row, or null once the file is exhausted; safe to call from several threads
+     */
+    public synchronized Object[] poll() {
+        return hasNext() ? next() : null;
+    }
+    
+    @Override
+    public synchronized void close() {
+        finished = true;
+        nextRow = null;
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                System.out.println("Could not close test data " + path + ": " + e.getMessage());
+            }
+            reader = null;
+        }
+    }
+    
+    /**
+     * Read lines up to the next row of this shard; blank lines and lines starting with # are skipped
+     */
+    private Object[] readRow() {
+        try {
+            if (reader == null) {
+                reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8);
+                if (!jsonLines) {
+                    readCsvHeader();
+                }
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (rowNumber++ % shardTotal != shardIndex) {
+                    continue;
+                }
+                MetricsCollector.increment("data.rows.read");
+                return jsonLines ? toJsonRow(line) : toCsvRow(line);
+            }
+            close();
+            return null;
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Could not read test data " + path, e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+    
+    private void readCsvHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        if (header == null) {
+            throw new IllegalArgumentException("Test data " + path + " has no header line");
+        }
+        List<String> headerColumns = parseCsvLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        List<String> wanted = columns.isEmpty() ? headerColumns : columns;
+        csvPositions = new int[wanted.size()];
+        for (int i = 0; i < wanted.size(); i++) {
+            csvPositions[i] = headerColumns.indexOf(wanted.get(i));
+            if (csvPositions[i] < 0) {
+                throw new IllegalArgumentException("Test data " + path + " has no column '" + wanted.get(i) + "', found " + headerColumns);
+            }
+        }
+    }
+    
+    private Object[] toCsvRow(String line) {
+        List<String> values = parseCsvLine(line);
+        Object[] row = new Object[csvPositions.length];
+        for (int i = 0; i < csvPositions.length; i++) {
+            if (csvPositions[i] >= values.size()) {
+                throw new IllegalArgumentException(path + ":" + lineNumber + " has " + values.size() + " value(s), expected at least "
+                        + (csvPositions[i] + 1));
+            }
+            row[i] = values.get(csvPositions[i]);
+        }
+        return row;
+    }
+    
+    private Object[] toJsonRow(String line) {
+        Map<String, Object> object;
+        try {
+            object = JSON.toType(line, Json.MAP_TYPE);
+        } catch (JsonException | ClassCastException e) {
+            throw new IllegalArgumentException(path + ":" + lineNumber + " is not a JSON object", e);
+        }
+        Object[] row = new Object[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            if (!object.containsKey(columns.get(i))) {
+                throw new IllegalArgumentException(path + ":" + lineNumber + " has no field '" + columns.get(i) + "'");
+            }
+            Object value = object.get(columns.get(i));
+            row[i] = value == null ? null : String.valueOf(value);
+        }
+        return row;
+    }
+    
+    /**
+     * Split a CSV line on commas outside double quotes; "" inside quotes is a literal quote.
+     * Values cannot span lines
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -32,6 +32,9 @@ public class ExtentManager {
      */
     private static void createInstance() {
         String reportPath = ConfigReader.getExtentReportPath();
+        if (ConfigReader.isShardingEnabled()) {
+            reportPath = ShardReports.getShardReportPath(reportPath);
+        }
         
         // Create directory if it doesn't exist
         File reportDir = new File(reportPath).getParentFile();
@@ -57,6 +60,12 @@ public class ExtentManager {
         extent.setSystemInfo("Application", "OrangeHRM");
         extent.setSystemInfo("URL", ConfigReader.getAppUrl());
         extent.setSystemInfo("Browser", ConfigReader.getBrowserName());
+        
+        // Each shard also writes a JSON archive that ShardReports merges into one report
+        if (ConfigReader.isShardingEnabled()) {
+            ShardReports.attachJsonArchive(extent);
+            extent.setSystemInfo("Shard", ConfigReader.getShardIndex() + "/" + ConfigReader.getShardTotal());
+        }
     }
     
     /**
@@ -0,0 +1,200 @@
+package com.qa.orangehrm.utils;
+
+import org.openqa.selenium.By;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Locator Compiler utility class to rewrite XPath locators into equivalent CSS selectors,
+ * or CSS plus text-node matching for text() predicates, and to rank locators by expected cost
+ */
+public class LocatorCompiler {
+    
+    private static final String NAME = "[A-Za-z_][\\w-]*";
+    private static final String QUOTED = "(?:'([^']*)'|\"([^\"]*)\")";
+    private static final Pattern STEP = Pattern.compile("(//|/)(" + NAME + "|\\*)((?:\\[[^\\[\\]]+\\])*)");
+    private static final Pattern PREDICATE = Pattern.compile("\\[([^\\[\\]]+)\\]");
+    private static final Pattern ATTRIBUTE_EQUALS = Pattern.compile("@(" + NAME + ")\\s*=\\s*" + QUOTED);
+    private static final Pattern ATTRIBUTE_EXISTS = Pattern.compile("@(" + NAME + ")");
+    private static final Pattern ATTRIBUTE_FUNCTION = Pattern.compile(
+            "(contains|starts-with)\\(\\s*@(" + NAME + ")\\s*,\\s*" + QUOTED + "\\s*\\)");
+    private static final Pattern TEXT_EQUALS = Pattern.compile("text\\(\\)\\s*=\\s*" + QUOTED);
+    private static final Pattern TEXT_CONTAINS = Pattern.compile("contains\\(\\s*text\\(\\)\\s*,\\s*" + QUOTED + "\\s*\\)");
+    
+    private static final Map<By, By> compiled = new ConcurrentHashMap<>();
+    
+    /**
+     * Get the cheapest equivalent of a locator, or the locator itself if it cannot be rewritten
+     * or compilation is disabled (browser.locator.compile)
+     */
+    public static By compile(By locator) {
+        if (!ConfigReader.isLocatorCompileEnabled()) {
+            return locator;
+        }
+        return compiled.computeIfAbsent(locator, key -> {
+            By rewritten = rewrite(key);
+            MetricsCollector.increment(rewritten == null ? "locator.compile.kept" : "locator.compile.rewritten");
+            return rewritten == null ? key : rewritten;
+        });
+    }
+    
+    /**
+     * Rewrite an XPath locator into CSS or CSS plus text matching, or null if it has no equivalent
+     */
+    public static By rewrite(By locator) {
+        String xpath = getXPath(locator);
+        if (xpath == null) {
+            return null;
+        }
+        StringBuilder css = new StringBuilder();
+        String[] textCondition = null;
+        Matcher step = STEP.matcher(xpath.trim());
+        int position = 0;
+        while (step.find()) {
+            if (step.start() != position || textCondition != null) {
+                // Unsupported syntax between steps, or text() predicate on a non-final step
+                return null;
+            }
+            if (position == 0 && "/".equals(step.group(1))) {
+                return null; // absolute paths from the document root
+            }
+            if (position > 0) {
+                css.append("//".equals(step.group(1)) ? " " : " > ");
+            }
+            css.append(step.group(2));
+            Matcher predicate = PREDICATE.matcher(step.group(3));
+            while (predicate.find()) {
+                String expression = predicate.group(1).trim();
+                String[] text = parseTextPredicate(expression);
+                if (text != null) {
+                    if (textCondition != null) {
+                        return null;
+                    }
+                    textCondition = text;
+                    continue;
+                }
+                String attribute = toAttributeSelector(expression);
+                if (attribute == null) {
+                    return null;
+                }
+                css.append(attribute);
+            }
+            position = step.end();
+        }
+        if (position != xpath.trim().length() || css.length() == 0) {
+            return null;
+        }
+        return textCondition == null ? By.cssSelector(css.toString())
+                : new ByCssText(css.toString(), textCondition[0], textCondition[1]);
+    }
+    
+    /**
+     * Estimate relative lookup cost: 1 id/name, 2 css/class/tag, 3 attribute-only xpath,
+     * 4 descendant-of-anything xpath, 5 text-matching xpath, 6 xpath with axes or functions
+     * that cannot be rewritten
+     */
+    public static int estimateCost(By locator) {
+        String description = locator.toString();
+        if (description.startsWith("By.id:") || description.startsWith("By.name:")) {
+            return 1;
+        }
+        String xpath = getXPath(locator);
+        if (xpath == null) {
+            return 2;
+        }
+        if (rewrite(locator) == null) {
+            return 6;
+        }
+        if (xpath.contains("text()")) {
+            return 5;
+        }
+        return xpath.startsWith("//*") ? 4 : 3;
+    }
+    
+    /**
+     * Get By fields declared by a page object and its superclasses, named Class.field
+     */
+    public static Map<String, By> getDeclaredLocators(Object page) {
+        Map<String, By> locators = new LinkedHashMap<>();
+        for (Class<?> type = page.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!By.class.isAssignableFrom(field.getType()) || Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    By locator = (By) field.get(page);
+                    if (locator != null) {
+                        locators.put(type.getSimpleName() + "." + field.getName(), locator);
+                    }
+                } catch (IllegalAccessException e) {
+                    System.out.println("Cannot read locator " + field + ": " + e.getMessage());
+                }
+            }
+        }
+        return locators;
+    }
+    
+    private static String getXPath(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return "xpath".equals(parameters.using()) ? String.valueOf(parameters.value()) : null;
+    }
+    
+    /**
+     * Parse text()='x' or contains(text(),'x') into [mode, text]
+     */
+    private static String[] parseTextPredicate(String expression) {
+        Matcher equals = TEXT_EQUALS.matcher(expression);
+        if (equals.matches()) {
+            return new String[]{ByCssText.EQUALS, quoted(equals, 1)};
+        }
+        Matcher contains = TEXT_CONTAINS.matcher(expression);
+        if (contains.matches()) {
+            return new String[]{ByCssText.CONTAINS, quoted(contains, 1)};
+        }
+        return null;
+    }
+    
+    /**
+     * Convert @a='v', @a, contains(@a,'v') and starts-with(@a,'v') into CSS attribute selectors
+     */
+    private static String toAttributeSelector(String expression) {
+        Matcher equals = ATTRIBUTE_EQUALS.matcher(expression);
+        if (equals.matches()) {
+            return "[" + equals.group(1) + "=" + cssString(quoted(equals, 2)) + "]";
+        }
+        Matcher exists = ATTRIBUTE_EXISTS.matcher(expression);
+        if (exists.matches()) {
+            return "[" + exists.group(1) + "]";
+        }
+        Matcher function = ATTRIBUTE_FUNCTION.matcher(expression);
+        if (function.matches()) {
+            String value = quoted(function, 3);
+            if (value.isEmpty()) {
+                // contains(@a,'') is true for any element with the attribute, [a*=''] matches nothing
+                return "[" + function.group(2) + "]";
+            }
+            String operator = "contains".equals(function.group(1)) ? "*=" : "^=";
+            return "[" + function.group(2) + operator + cssString(value) + "]";
+        }
+        return null;
+    }
+    
+    private static String quoted(Matcher matcher, int firstGroup) {
+        String single = matcher.group(firstGroup);
+        return single != null ? single : matcher.group(firstGroup + 1);
+    }
+    
+    private static String cssString(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,159 @@
+package com.qa.orangehrm.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics Collector utility class to record framework counters and timings
+ */
+public class MetricsCollector {
+    
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private static final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    
+    /**
+     * Increment counter by one
+     */
+    public static void increment(String name) {
+        add(name, 1);
+    }
+    
+    /**
+     * Add value to counter
+     */
+    public static void add(String name, long value) {
+        counters.computeIfAbsent(name, key -> new LongAdder()).add(value);
+    }
+    
+    /**
+     * Get counter value
+     */
+    public static long getCount(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+    
+    /**
+     * Record a timing in milliseconds
+     */
+    public static void recordTime(String name, long millis) {
+        timers.computeIfAbsent(name, key -> new Timer()).record(millis);
+    }
+    
+    /**
+     * Get total recorded time in milliseconds
+     */
+    public static long getTotalTime(String name) {
+        Timer timer = timers.get(name);
+        return timer == null ? 0 : timer.total.sum();
+    }
+    
+    /**
+     * Get number of recorded timings
+     */
+    public static long getTimeCount(String name) {
+        Timer timer = timers.get(name);
+        return timer == null ? 0 : timer.count.sum();
+    }
+    
+    /**
+     * Set current value of a gauge, tracking its peak
+     */
+    public static void setGauge(String name, long value) {
+        gauges.computeIfAbsent(name, key -> new Gauge()).set(value);
+    }
+    
+    /**
+     * Get peak value of a gauge
+     */
+    public static long getGaugePeak(String name) {
+        Gauge gauge = gauges.get(name);
+        return gauge == null ? 0 : gauge.peak.get();
+    }
+    
+    /**
+     * Get all metrics as sorted name/value pairs
+     */
+    public static Map<String, String> snapshot() {
+        Map<String, String> snapshot = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            snapshot.put(entry.getKey(), String.valueOf(entry.getValue().sum()));
+        }
+        for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().toString());
+        }
+        for (Map.Entry<String, Gauge> entry : gauges.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().toString());
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Print all metrics to console
+     */
+    public static void printSummary() {
+        Map<String, String> snapshot = snapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== Framework Metrics ===");
+        for (Map.Entry<String, String> entry : snapshot.entrySet()) {
+            System.out.println("  - " + entry.getKey() + ": " + entry.getValue());
+        }
+    }
+    
+    /**
+     * Clear all metrics
+     */
+    public static void reset() {
+        counters.clear();
+        timers.clear();
+        gauges.clear();
+    }
+    
+    /**
+     * Timing statistics for a single metric
+     */
+    private static class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        
+        private void record(long millis) {
+            count.increment();
+            total.add(millis);
+            max.accumulate(millis);
+        }
+        
+        @Override
+        public String toString() {
+            long samples = count.sum();
+            long sum = total.sum();
+            long avg = samples == 0 ? 0 : sum / samples;
+            return "count=" + samples + ", total=" + sum + "ms, avg=" + avg + "ms, max=" + max.get() + "ms";
+        }
+    }
+    
+    /**
+     * Current and peak value of a single metric
+     */
+    private static class Gauge {
+        private final AtomicLong current = new AtomicLong();
+        private final LongAccumulator peak = new LongAccumulator(Math::max, 0);
+        
+        private void set(long value) {
+            current.set(value);
+            peak.accumulate(value);
+        }
+        
+        @Override
+        public String toString() {
+            return "current=" + current.get() + ", peak=" + peak.get();
+        }
+    }
+}
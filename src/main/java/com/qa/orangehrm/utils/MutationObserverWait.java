@@ -0,0 +1,129 @@
+package com.qa.orangehrm.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * MutationObserver Wait utility class to wait for element and URL conditions inside the page.
+ * One async script installs an observer that resolves as soon as the condition holds,
+ * replacing the WebDriverWait polling loop with a single round trip per wait.
+ */
+public class MutationObserverWait {
+    
+    private static final String VISIBLE = "visible";
+    private static final String CLICKABLE = "clickable";
+    private static final String URL = "url";
+    
+    // Re-check interval inside the page for changes that fire no mutation (CSS transitions, pushState)
+    private static final long IN_PAGE_RECHECK_MILLIS = 200;
+    
+    private static final String WAIT_SCRIPT =
+            "var locator = arguments[0], condition = arguments[1], timeout = arguments[2],"
+            + "    recheck = arguments[3], done = arguments[arguments.length - 1];"
+            + PageScripts.FIND_FUNCTION
+            + PageScripts.IS_VISIBLE_FUNCTION
+            + "function check() {"
+            + "  if (condition === 'url') { return window.location.href.indexOf(locator[1]) >= 0 ? true : null; }"
+            + "  var nodes = find(locator);"
+            + "  for (var i = 0; i < nodes.length; i++) {"
+            + "    if (isVisible(nodes[i]) && (condition !== 'clickable' || !nodes[i].disabled)) { return nodes[i]; }"
+            + "  }"
+            + "  return null;"
+            + "}"
+            + "var result = check();"
+            + "if (result) { done(result); return; }"
+            + "var observer, timer, interval;"
+            + "function finish(found) {"
+            + "  observer.disconnect(); clearTimeout(timer); clearInterval(interval); done(found);"
+            + "}"
+            + "function onChange() { var found = check(); if (found) { finish(found); } }"
+            + "observer = new MutationObserver(onChange);"
+            + "observer.observe(document, {childList: true, subtree: true, attributes: true});"
+            + "interval = setInterval(onChange, recheck);"
+            + "timer = setTimeout(function () { finish(null); }, timeout);";
+    
+    /**
+     * Check if the locator can be evaluated inside the page: every strategy but link text and
+     * partial link text, with name, id and class name translated to CSS by PageScripts
+     */
+    public static boolean supports(WebDriver driver, By locator) {
+        return ConfigReader.isMutationObserverWaitEnabled() && driver instanceof JavascriptExecutor
+                && PageScripts.toScriptLocator(locator) != null;
+    }
+    
+    /**
+     * Wait for element to be visible
+     */
+    public static WebElement waitForVisible(WebDriver driver, By locator, Duration timeout) {
+        return (WebElement) await(driver, locator, VISIBLE, timeout, "visibility of element located by " + locator);
+    }
+    
+    /**
+     * Wait for element to be visible and enabled
+     */
+    public static WebElement waitForClickable(WebDriver driver, By locator, Duration timeout) {
+        return (WebElement) await(driver, locator, CLICKABLE, timeout, "element to be clickable: " + locator);
+    }
+    
+    /**
+     * Wait for current URL to contain text
+     */
+    public static boolean waitForUrlContains(WebDriver driver, String fraction, Duration timeout) {
+        return Boolean.TRUE.equals(awaitScript(driver, List.of(URL, fraction), URL, timeout,
+                "url to contain \"" + fraction + "\""));
+    }
+    
+    private static Object await(WebDriver driver, By locator, String condition, Duration timeout, String description) {
+        List<String> scriptLocator = PageScripts.toScriptLocator(locator);
+        if (scriptLocator == null) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in the page: " + locator);
+        }
+        return awaitScript(driver, scriptLocator, condition, timeout, description);
+    }
+    
+    /**
+     * Run the observer script, re-installing it when a navigation unloads the document mid-wait
+     */
+    private static Object awaitScript(WebDriver driver, List<String> scriptLocator, String condition,
+                                      Duration timeout, String description) {
+        long start = System.currentTimeMillis();
+        long deadline = start + timeout.toMillis();
+        // Resolve before the driver's script timeout would abort the async script
+        long scriptBudgetMillis = Math.max(1000, ConfigReader.getScriptTimeout() * 1000L - 1000);
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            MetricsCollector.increment("wait.observer.roundtrips");
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT, scriptLocator, condition,
+                        Math.min(remaining, scriptBudgetMillis), IN_PAGE_RECHECK_MILLIS);
+                if (result != null) {
+                    MetricsCollector.recordTime("wait.observer.time", System.currentTimeMillis() - start);
+                    return result;
+                }
+            } catch (JavascriptException e) {
+                if (!String.valueOf(e.getMessage()).toLowerCase(Locale.ROOT).contains("unload")) {
+                    throw e;
+                }
+                // Document unloaded by a navigation - observe the new one
+                MetricsCollector.increment("wait.observer.reinstalls");
+            } catch (ScriptTimeoutException e) {
+                MetricsCollector.increment("wait.observer.reinstalls");
+            }
+        }
+        MetricsCollector.recordTime("wait.observer.time", System.currentTimeMillis() - start);
+        throw new TimeoutException("Expected condition failed: waiting for " + description
+                + " (tried for " + timeout.getSeconds() + " second(s) with MutationObserver)");
+    }
+}
@@ -0,0 +1,105 @@
+package com.qa.orangehrm.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+
+/**
+ * Page Scripts utility class with JavaScript helpers shared by scripts that locate
+ * and inspect elements inside the page in a single round trip
+ */
+public class PageScripts {
+    
+    /**
+     * find(locator, root): all elements under root (default document) matching a locator from toScriptLocator
+     */
+    public static final String FIND_FUNCTION =
+            "function find(locator, root) {"
+            + "  root = root || document;"
+            + "  if (locator[0] === 'xpath') {"
+            + "    var snapshot = document.evaluate(locator[1], root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "    var nodes = [];"
+            + "    for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }"
+            + "    return nodes;"
+            + "  }"
+            + "  var matches = Array.prototype.slice.call(root.querySelectorAll(locator[1]));"
+            + "  if (locator[0] !== 'csstext') { return matches; }"
+            // XPath semantics: text()='x' holds for any text child, contains(text(),'x') looks at the first one
+            + "  return matches.filter(function (el) {"
+            + "    for (var n = el.firstChild; n; n = n.nextSibling) {"
+            + "      if (n.nodeType !== 3) { continue; }"
+            + "      if (locator[2] === 'contains') { return n.nodeValue.indexOf(locator[3]) >= 0; }"
+            + "      if (n.nodeValue === locator[3]) { return true; }"
+            + "    }"
+            + "    return false;"
+            + "  });"
+            + "}";
+    
+    /**
+     * isVisible(el): rendered with a non-empty box and no fully transparent ancestor, matching
+     * WebElement.isDisplayed for ordinary elements (overflow clipping is not checked)
+     */
+    public static final String IS_VISIBLE_FUNCTION =
+            "function isVisible(el) {"
+            + "  var style = window.getComputedStyle(el);"
+            + "  if (style.display === 'none' || style.visibility === 'hidden') { return false; }"
+            + "  for (var node = el; node && node.nodeType === 1; node = node.parentElement) {"
+            + "    if (parseFloat(window.getComputedStyle(node).opacity) === 0) { return false; }"
+            + "  }"
+            + "  var rect = el.getBoundingClientRect();"
+            + "  return rect.width > 0 && rect.height > 0;"
+            + "}";
+    
+    /**
+     * Convert locator to the [strategy, value...] list understood by find(), or null for
+     * strategies that cannot be evaluated in the page (link text)
+     */
+    public static List<String> toScriptLocator(By locator) {
+        if (locator instanceof ByCssText) {
+            return ((ByCssText) locator).toScriptLocator();
+        }
+        String cssSelector = toCssSelector(locator);
+        if (cssSelector != null) {
+            return List.of("css", cssSelector);
+        }
+        By.Remotable.Parameters parameters = getRemoteParameters(locator);
+        return parameters != null && "xpath".equals(parameters.using()) ? List.of("xpath", String.valueOf(parameters.value())) : null;
+    }
+    
+    /**
+     * Convert a CSS, tag name, name, id or class name locator to a CSS selector, or null for other
+     * strategies; Selenium sends By.name, By.id and By.className as "name", "id" and "class name",
+     * which querySelectorAll and the W3C protocol do not know, so they become quoted attribute selectors
+     */
+    public static String toCssSelector(By locator) {
+        By.Remotable.Parameters parameters = getRemoteParameters(locator);
+        if (parameters == null) {
+            return null;
+        }
+        String value = String.valueOf(parameters.value());
+        switch (parameters.using()) {
+            case "css selector":
+            case "tag name":
+                return value;
+            case "name":
+                return "*[name=" + toCssString(value) + "]";
+            case "id":
+                return "*[id=" + toCssString(value) + "]";
+            case "class name":
+                return "*[class~=" + toCssString(value) + "]";
+            default:
+                return null;
+        }
+    }
+    
+    private static By.Remotable.Parameters getRemoteParameters(By locator) {
+        return locator instanceof By.Remotable ? ((By.Remotable) locator).getRemoteParameters() : null;
+    }
+    
+    /**
+     * Quote a value as a CSS string, so any characters in a name, id or class match literally
+     */
+    private static String toCssString(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
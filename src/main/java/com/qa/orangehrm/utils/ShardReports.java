@@ -0,0 +1,237 @@
+package com.qa.orangehrm.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.JsonFormatter;
+import com.aventstack.extentreports.reporter.configuration.Theme;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Shard Reports utility class to save each shard's ExtentReports data and TestNG summary under
+ * shard.report.directory, and to merge them into one report once every shard has finished
+ * (mvn test -Pmerge-shards)
+ */
+public class ShardReports {
+    
+    private static final String EXTENT_PREFIX = "extent-shard-";
+    private static final String SUMMARY_PREFIX = "summary-shard-";
+    private static final String[] RESULT_KEYS = {"passed", "failed", "skipped", "total"};
+    
+    /**
+     * Get the HTML report path of this shard, e.g. ExtentReport-shard-0.html
+     */
+    public static String getShardReportPath(String reportPath) {
+        int extension = reportPath.lastIndexOf('.');
+        String suffix = "-shard-" + ConfigReader.getShardIndex();
+        return extension < 0 ? reportPath + suffix : reportPath.substring(0, extension) + suffix + reportPath.substring(extension);
+    }
+    
+    /**
+     * Also write this shard's tests as an ExtentReports JSON archive for the merge
+     */
+    public static void attachJsonArchive(ExtentReports extent) {
+        File archive = getShardFile(EXTENT_PREFIX, ".json");
+        archive.getAbsoluteFile().getParentFile().mkdirs();
+        extent.attachReporter(new JsonFormatter(archive));
+    }
+    
+    /**
+     * Save this shard's TestNG summary for the merge
+     */
+    public static void saveSummary(Properties summary) {
+        File file = getShardFile(SUMMARY_PREFIX, ".properties");
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        try (OutputStream out = new FileOutputStream(file)) {
+            summary.store(out, "TestNG summary of shard " + ConfigReader.getShardIndex() + "/" + ConfigReader.getShardTotal());
+        } catch (IOException e) {
+            System.out.println("Failed to save shard summary: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Merge the JSON archives of all shards into the ExtentReport at test.extent.report.path
+     * and print the combined TestNG summary
+     */
+    public static void main(String[] args) throws IOException {
+        File directory = new File(ConfigReader.getShardReportDirectory());
+        Map<Integer, Properties> summaries = loadSummaries(directory);
+        if (summaries.isEmpty()) {
+            throw new IllegalStateException("No shard summaries found in " + directory.getAbsolutePath());
+        }
+        printSummary(summaries);
+        mergeExtentReports(directory, summaries);
+    }
+    
+    private static Map<Integer, Properties> loadSummaries(File directory) throws IOException {
+        Map<Integer, Properties> summaries = new TreeMap<>();
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SUMMARY_PREFIX) && name.endsWith(".properties"));
+        if (files == null) {
+            return summaries;
+        }
+        for (File file : files) {
+            Properties summary = new Properties();
+            try (InputStream in = new FileInputStream(file)) {
+                summary.load(in);
+            }
+            summaries.put(Integer.parseInt(summary.getProperty("shard.index")), summary);
+        }
+        return summaries;
+    }
+    
+    private static void printSummary(Map<Integer, Properties> summaries) {
+        System.out.println("=== Merged Shard Report ===");
+        int total = Integer.parseInt(summaries.values().iterator().next().getProperty("shard.total"));
+        System.out.println("Shards: " + summaries.size() + " of " + total);
+        for (int shard = 0; shard < total; shard++) {
+            if (!summaries.containsKey(shard)) {
+                System.out.println("WARNING: no summary from shard " + shard + ", its tests are missing from this report");
+            }
+        }
+        Set<String> fingerprints = new HashSet<>();
+        Set<String> totals = new HashSet<>();
+        for (Properties summary : summaries.values()) {
+            fingerprints.add(summary.getProperty("shard.partition"));
+            totals.add(summary.getProperty("shard.total"));
+        }
+        if (fingerprints.size() > 1 || totals.size() > 1) {
+            System.out.println("WARNING: shards computed different partitions (different shard.total, test selection or "
+                    + "duration history), some methods may have run twice or not at all");
+        }
+        
+        // Results per TestNG test, summed over shards
+        Map<String, long[]> results = new TreeMap<>();
+        Map<String, long[]> durations = new TreeMap<>();
+        for (Properties summary : summaries.values()) {
+            for (String key : summary.stringPropertyNames()) {
+                if (!key.startsWith("test.")) {
+                    continue;
+                }
+                String test = key.substring("test.".length(), key.lastIndexOf('.'));
+                String field = key.substring(key.lastIndexOf('.') + 1);
+                long value = Long.parseLong(summary.getProperty(key));
+                int position = Arrays.asList(RESULT_KEYS).indexOf(field);
+                if (position >= 0) {
+                    results.computeIfAbsent(test, name -> new long[RESULT_KEYS.length])[position] += value;
+                } else if ("duration".equals(field)) {
+                    long[] duration = durations.computeIfAbsent(test, name -> new long[2]);
+                    duration[0] = Math.max(duration[0], value);
+                    duration[1] += value;
+                }
+            }
+        }
+        for (Map.Entry<String, long[]> entry : results.entrySet()) {
+            long[] counts = entry.getValue();
+            long[] duration = durations.getOrDefault(entry.getKey(), new long[2]);
+            System.out.println("Test: " + entry.getKey());
+            System.out.println("  - Passed: " + counts[0]);
+            System.out.println("  - Failed: " + counts[1]);
+            System.out.println("  - Skipped: " + counts[2]);
+            System.out.println("  - Total: " + counts[3]);
+            System.out.println("  - Duration: " + (duration[0] / 1000) + " seconds on the slowest shard, "
+                    + (duration[1] / 1000) + " seconds over all shards");
+        }
+        
+        System.out.println("\n=== Shards ===");
+        long wallClock = 0;
+        long serial = 0;
+        for (Map.Entry<Integer, Properties> entry : summaries.entrySet()) {
+            long duration = Long.parseLong(entry.getValue().getProperty("shard.duration", "0"));
+            wallClock = Math.max(wallClock, duration);
+            serial += duration;
+            System.out.println("  - Shard " + entry.getKey() + ": " + entry.getValue().getProperty("shard.methods")
+                    + " method(s) in " + (duration / 1000) + " seconds");
+        }
+        System.out.println("  - Wall clock " + (wallClock / 1000) + " seconds, " + (serial / 1000) + " seconds on one machine");
+        
+        // Listener sections (Parallelism, Scheduling, ...) per shard
+        Map<String, List<String>> sections = new TreeMap<>();
+        for (Map.Entry<Integer, Properties> entry : summaries.entrySet()) {
+            for (String key : entry.getValue().stringPropertyNames()) {
+                if (key.startsWith("section.")) {
+                    List<String> lines = sections.computeIfAbsent(key.substring("section.".length()), name -> new ArrayList<>());
+                    for (String line : entry.getValue().getProperty(key).split("\n")) {
+                        lines.add("[shard " + entry.getKey() + "] " + line);
+                    }
+                }
+            }
+        }
+        for (Map.Entry<String, List<String>> section : sections.entrySet()) {
+            System.out.println("\n=== " + section.getKey() + " ===");
+            for (String line : section.getValue()) {
+                System.out.println("  - " + line);
+            }
+        }
+        
+        // Counters are summed, timings and gauges are listed per shard
+        Map<String, String> metrics = new TreeMap<>();
+        for (Map.Entry<Integer, Properties> entry : summaries.entrySet()) {
+            for (String key : entry.getValue().stringPropertyNames()) {
+                if (!key.startsWith("metric.")) {
+                    continue;
+                }
+                String name = key.substring("metric.".length());
+                String value = entry.getValue().getProperty(key);
+                String merged = metrics.get(name);
+                boolean counter = value.matches("\\d+");
+                if (merged == null) {
+                    metrics.put(name, counter ? value : "shard " + entry.getKey() + " " + value);
+                } else if (counter && merged.matches("\\d+")) {
+                    metrics.put(name, String.valueOf(Long.parseLong(merged) + Long.parseLong(value)));
+                } else {
+                    metrics.put(name, merged + "; shard " + entry.getKey() + " " + value);
+                }
+            }
+        }
+        if (!metrics.isEmpty()) {
+            System.out.println("\n=== Framework Metrics ===");
+            for (Map.Entry<String, String> entry : metrics.entrySet()) {
+                System.out.println("  - " + entry.getKey() + ": " + entry.getValue());
+            }
+        }
+        System.out.println("\n=== End of Report ===");
+    }
+    
+    private static void mergeExtentReports(File directory, Map<Integer, Properties> summaries) throws IOException {
+        ExtentReports extent = new ExtentReports();
+        for (Integer shard : summaries.keySet()) {
+            File archive = new File(directory, EXTENT_PREFIX + shard + ".json");
+            if (archive.exists()) {
+                extent.createDomainFromJsonArchive(archive);
+            } else {
+                System.out.println("WARNING: no ExtentReports archive from shard " + shard);
+            }
+        }
+        
+        String reportPath = ConfigReader.getExtentReportPath();
+        new File(reportPath).getAbsoluteFile().getParentFile().mkdirs();
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+        sparkReporter.config().setTheme(Theme.STANDARD);
+        sparkReporter.config().setDocumentTitle("OrangeHRM Test Automation Report");
+        sparkReporter.config().setReportName("OrangeHRM Test Results");
+        sparkReporter.config().setTimeStampFormat("dd/MM/yyyy HH:mm:ss");
+        extent.attachReporter(sparkReporter);
+        extent.setSystemInfo("Application", "OrangeHRM");
+        extent.setSystemInfo("URL", ConfigReader.getAppUrl());
+        extent.setSystemInfo("Shards", summaries.keySet().toString());
+        extent.flush();
+        System.out.println("Merged ExtentReport: " + reportPath);
+    }
+    
+    private static File getShardFile(String prefix, String extension) {
+        return new File(ConfigReader.getShardReportDirectory(), prefix + ConfigReader.getShardIndex() + extension);
+    }
+}
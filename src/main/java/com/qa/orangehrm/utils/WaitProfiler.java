@@ -0,0 +1,194 @@
+package com.qa.orangehrm.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wait Profiler utility class to classify time spent in sleeps, explicit waits, element checks
+ * and implicit-wait misses, compare it with when the awaited condition actually held,
+ * and rank the wasted time per test and per call site (profile.waits)
+ */
+public class WaitProfiler {
+    
+    private static final int REPORT_LINES = 15;
+    
+    // Framework classes skipped when looking for the page object or test that asked for the wait
+    private static final Set<String> INFRASTRUCTURE_CLASSES = Set.of(
+            "com.qa.orangehrm.utils.WaitProfiler",
+            "com.qa.orangehrm.utils.MutationObserverWait",
+            "com.qa.orangehrm.factory.NetworkIdleMonitor",
+            "com.qa.orangehrm.pages.BasePage",
+            "com.qa.orangehrm.base.BaseTest");
+    
+    private static final Map<String, WaitStats> byCallSite = new ConcurrentHashMap<>();
+    private static final Map<String, WaitStats> byTest = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, WaitStats>> testWaits = ThreadLocal.withInitial(LinkedHashMap::new);
+    private static final ThreadLocal<Long> lastFalse = new ThreadLocal<>();
+    
+    /**
+     * Check if waits are being profiled
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.isWaitProfilingEnabled();
+    }
+    
+    /**
+     * Record a wait that took waitedMillis and whose condition held after satisfiedAfterMillis,
+     * or -1 if it never held; everything after that point is wasted
+     */
+    public static void record(String kind, long waitedMillis, long satisfiedAfterMillis) {
+        long wasted = satisfiedAfterMillis < 0 ? waitedMillis : Math.max(0, waitedMillis - satisfiedAfterMillis);
+        String key = getCallSite() + " " + kind;
+        byCallSite.computeIfAbsent(key, k -> new WaitStats()).record(waitedMillis, wasted);
+        testWaits.get().computeIfAbsent(key, k -> new WaitStats()).record(waitedMillis, wasted);
+        MetricsCollector.add("wait.wasted.ms", wasted);
+    }
+    
+    /**
+     * Record a polled wait started at startMillis whose condition was last false at lastFalseMillis
+     * (-1 if it held on the first poll); it turned true during the final polling interval, counted
+     * at its midpoint
+     */
+    public static void recordPolled(String kind, long startMillis, long lastFalseMillis, boolean satisfied) {
+        long end = System.currentTimeMillis();
+        long satisfiedAt = lastFalseMillis < 0 ? end : lastFalseMillis + (end - lastFalseMillis) / 2;
+        record(kind, end - startMillis, satisfied ? satisfiedAt - startMillis : -1);
+    }
+    
+    /**
+     * Wrap a WebDriverWait condition so that recordPolled(kind, startMillis, satisfied)
+     * knows when it was last false
+     */
+    public static <T> ExpectedCondition<T> observe(ExpectedCondition<T> condition) {
+        lastFalse.remove();
+        return new ExpectedCondition<T>() {
+            @Override
+            public T apply(WebDriver driver) {
+                T result = null;
+                try {
+                    result = condition.apply(driver);
+                    return result;
+                } finally {
+                    if (result == null || Boolean.FALSE.equals(result)) {
+                        lastFalse.set(System.currentTimeMillis());
+                    }
+                }
+            }
+            
+            @Override
+            public String toString() {
+                return condition.toString();
+            }
+        };
+    }
+    
+    /**
+     * Record a wait run through a condition from observe()
+     */
+    public static void recordPolled(String kind, long startMillis, boolean satisfied) {
+        Long last = lastFalse.get();
+        lastFalse.remove();
+        recordPolled(kind, startMillis, last == null ? -1 : last, satisfied);
+    }
+    
+    /**
+     * Get the current thread's wasted waits for the finished test, worst call site first,
+     * and add them to the per-test ranking; null if the test did not wait
+     */
+    public static String collectTestSummary(String testName) {
+        Map<String, WaitStats> waits = testWaits.get();
+        testWaits.remove();
+        if (waits.isEmpty()) {
+            return null;
+        }
+        WaitStats total = new WaitStats();
+        for (WaitStats stats : waits.values()) {
+            total.merge(stats);
+        }
+        byTest.computeIfAbsent(testName, key -> new WaitStats()).merge(total);
+        StringBuilder summary = new StringBuilder("Wasted waits: " + total.wasted.sum() + "ms of "
+                + total.waited.sum() + "ms waited");
+        for (String line : rank(waits, REPORT_LINES)) {
+            summary.append("<br>").append(line);
+        }
+        return summary.toString();
+    }
+    
+    /**
+     * Get wasted wait time ranked per call site and per test, empty if nothing was profiled
+     */
+    public static List<String> getSuiteReport() {
+        List<String> report = new ArrayList<>();
+        if (byCallSite.isEmpty()) {
+            return report;
+        }
+        report.add("Call sites (worst first):");
+        for (String line : rank(byCallSite, REPORT_LINES)) {
+            report.add("  " + line);
+        }
+        if (!byTest.isEmpty()) {
+            report.add("Tests (worst first):");
+            for (String line : rank(byTest, REPORT_LINES)) {
+                report.add("  " + line);
+            }
+        }
+        return report;
+    }
+    
+    private static List<String> rank(Map<String, WaitStats> waits, int limit) {
+        List<Map.Entry<String, WaitStats>> entries = new ArrayList<>(waits.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().wasted.sum(), a.getValue().wasted.sum()));
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, WaitStats> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            lines.add(entry.getKey() + ": " + entry.getValue());
+        }
+        return lines;
+    }
+    
+    /**
+     * First frame in a page object or test outside the wait infrastructure, as Class.method:line
+     */
+    private static String getCallSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("com.qa.orangehrm.")
+                        && !INFRASTRUCTURE_CLASSES.contains(frame.getClassName()))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+    
+    /**
+     * Wait count with total and wasted milliseconds
+     */
+    private static class WaitStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder waited = new LongAdder();
+        private final LongAdder wasted = new LongAdder();
+        
+        private void record(long waitedMillis, long wastedMillis) {
+            count.increment();
+            waited.add(waitedMillis);
+            wasted.add(wastedMillis);
+        }
+        
+        private void merge(WaitStats other) {
+            count.add(other.count.sum());
+            waited.add(other.waited.sum());
+            wasted.add(other.wasted.sum());
+        }
+        
+        @Override
+        public String toString() {
+            return wasted.sum() + "ms wasted of " + waited.sum() + "ms in " + count.sum() + " wait(s)";
+        }
+    }
+}
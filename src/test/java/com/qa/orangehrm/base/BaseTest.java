@@ -1,35 +1,97 @@
 package com.qa.orangehrm.base;
 
 import com.qa.orangehrm.factory.DriverFactory;
+import com.qa.orangehrm.factory.NetworkIdleMonitor;
+import com.qa.orangehrm.factory.NetworkResourceBlocker;
+import com.qa.orangehrm.factory.SharedDriverSession;
+import com.qa.orangehrm.listeners.CircuitBreaker;
+import com.qa.orangehrm.listeners.RetryAnalyzer;
+import com.qa.orangehrm.utils.CommandMetrics;
+import com.qa.orangehrm.utils.ConfigReader;
 import com.qa.orangehrm.utils.ExtentManager;
 import com.qa.orangehrm.utils.ScreenshotUtil;
+import com.qa.orangehrm.utils.WaitProfiler;
 import org.openqa.selenium.WebDriver;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
 import org.testng.ITestContext;
 import org.testng.ITestResult;
+import org.testng.SkipException;
 import org.testng.annotations.*;
 
+import java.util.List;
+
 /**
  * Base Test class with common test setup and teardown methods
  */
-public class BaseTest {
+public class BaseTest implements IHookable {
+    
+    // Fixed sleep waitForPageLoad used before network-idle readiness
+    private static final long PAGE_LOAD_SLEEP_MILLIS = 2000;
     
     protected WebDriver driver;
     
+    // Why CircuitBreaker skips the current test, null if it runs; per thread, since parallel="methods" shares the instance
+    private final ThreadLocal<String> circuitBreakerSkip = new ThreadLocal<>();
+    
+    // Whether the test starts on the browser and login kept from the previous @SharedDriver method, per thread
+    private final ThreadLocal<Boolean> sharedDriverReused = ThreadLocal.withInitial(() -> false);
+    
     /**
      * Setup method to initialize WebDriver before each test
      */
     @BeforeMethod(alwaysRun = true)
     public void setUp(ITestContext context) {
-        // Initialize WebDriver
-        driver = DriverFactory.initDriver();
-        
-        // Start ExtentReports test
-        String testName = context.getCurrentXmlTest().getName();
+        // Start ExtentReports test, one node per attempt when infrastructure failures are retried
+        int attempt = RetryAnalyzer.startAttempt();
+        String testName = context.getCurrentXmlTest().getName() + (attempt > 1 ? " (attempt " + attempt + ")" : "");
         String testDescription = testName; // Use test name as description since getDescription() is not available
         ExtentManager.startTest(testName, testDescription);
         
+        // Do not launch a browser while the application is known to be down
+        circuitBreakerSkip.set(CircuitBreaker.allowTest());
+        if (circuitBreakerSkip.get() != null) {
+            driver = null;
+            return;
+        }
+        
+        // Initialize WebDriver, or reset the browser kept for a @SharedDriver class
+        CommandMetrics.startTest();
+        sharedDriverReused.set(SharedDriverSession.resume(getClass()));
+        driver = DriverFactory.initDriver();
+        if (sharedDriverReused.get()) {
+            return;
+        }
+        
         // Navigate to application
-        driver.get(com.qa.orangehrm.utils.ConfigReader.getAppUrl());
+        driver.get(ConfigReader.getAppUrl());
+    }
+    
+    /**
+     * Skip the test method when the circuit breaker is open; skipping here instead of in
+     * setUp keeps TestNG running the rest of the class once the circuit closes
+     */
+    @Override
+    public void run(IHookCallBack callBack, ITestResult testResult) {
+        if (circuitBreakerSkip.get() != null) {
+            throw new SkipException(circuitBreakerSkip.get());
+        }
+        callBack.runTestMethod(testResult);
+    }
+    
+    /**
+     * Check if the circuit breaker skips the current test, so subclass setup can be left out
+     */
+    protected boolean isSkippedByCircuitBreaker() {
+        return circuitBreakerSkip.get() != null;
+    }
+    
+    /**
+     * Check if the test runs on the browser and login kept from the previous method of this
+     * @SharedDriver class, so subclass setup such as logging in can be left out
+     */
+    protected boolean isSharedDriverReused() {
+        return sharedDriverReused.get();
     }
     
     /**
@@ -46,6 +108,45 @@ public class BaseTest {
                 ScreenshotUtil.captureScreenshotForReport(result.getName());
             }
             
+            // Report blocked requests for this test (browser.block.resources)
+            String blockingSummary = NetworkResourceBlocker.collectTestSummary(driver);
+            if (blockingSummary != null && ExtentManager.getCurrentTest() != null) {
+                ExtentManager.getCurrentTest().info(blockingSummary);
+            }
+            
+            // Report readiness waits against the fixed sleeps they replaced (browser.network.idle.wait)
+            String readinessSummary = NetworkIdleMonitor.collectTestSummary(PAGE_LOAD_SLEEP_MILLIS);
+            if (readinessSummary != null && ExtentManager.getCurrentTest() != null) {
+                ExtentManager.getCurrentTest().info(readinessSummary);
+            }
+            
+            // Report wasted wait time per call site (profile.waits)
+            String waitSummary = WaitProfiler.collectTestSummary(
+                    result.getTestClass().getRealClass().getSimpleName() + "." + result.getName());
+            if (waitSummary != null && ExtentManager.getCurrentTest() != null) {
+                ExtentManager.getCurrentTest().info(waitSummary);
+            }
+            
+            // Report WebDriver command latency for this test (driver.command.metrics)
+            String commandSummary = CommandMetrics.collectTestSummary(System.currentTimeMillis() - result.getStartMillis());
+            if (commandSummary != null && ExtentManager.getCurrentTest() != null) {
+                ExtentManager.getCurrentTest().info(commandSummary);
+            }
+            
+            // Report retried and retrying attempts (test.retry.count)
+            String retrySummary = RetryAnalyzer.collectTestSummary(result);
+            if (retrySummary != null && ExtentManager.getCurrentTest() != null) {
+                ExtentManager.getCurrentTest().info(retrySummary);
+            }
+            
+            // Check what the test left in a shared browser before the next method reuses it
+            if (circuitBreakerSkip.get() == null) {
+                String violation = SharedDriverSession.finish(result.getName(), result.getStatus() == ITestResult.SUCCESS);
+                if (violation != null && ExtentManager.getCurrentTest() != null) {
+                    ExtentManager.getCurrentTest().warning(violation);
+                }
+            }
+            
             // End ExtentReports test
             ExtentManager.endTest();
             ExtentManager.removeTest();
@@ -53,17 +154,40 @@ public class BaseTest {
         } catch (Exception e) {
             e.printStackTrace();
         } finally {
-            // Quit WebDriver
-            DriverFactory.quitDriver();
+            circuitBreakerSkip.remove();
+            sharedDriverReused.remove();
+            
+            // Quit WebDriver unless a @SharedDriver class keeps it; a retried attempt's browser is not reused
+            if (result.wasRetried()) {
+                SharedDriverSession.close();
+                DriverFactory.discardDriver();
+            } else if (!SharedDriverSession.isReusable()) {
+                SharedDriverSession.close();
+                DriverFactory.quitDriver();
+            }
         }
     }
     
+    /**
+     * Quit the browser a @SharedDriver class kept on this worker
+     */
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass() {
+        SharedDriverSession.end(getClass());
+    }
+    
     /**
      * Setup method to initialize ExtentReports before test suite
      */
     @BeforeSuite(alwaysRun = true)
     public void setUpSuite() {
         // ExtentReports will be initialized when first test starts
+        
+        // Open the circuit breaker at once if the login page is not served
+        CircuitBreaker.preflight();
+        
+        // Pre-launch pooled browsers (no-op unless driver.pool.enabled=true)
+        DriverFactory.warmUpPool();
     }
     
     /**
@@ -74,10 +198,33 @@ public class BaseTest {
         try {
             // Flush ExtentReports
             if (ExtentManager.getExtent() != null) {
+                List<String> commandSummary = CommandMetrics.getSuiteSummary();
+                if (!commandSummary.isEmpty()) {
+                    ExtentManager.getExtent().setSystemInfo("WebDriver Commands", String.join("<br>", commandSummary));
+                }
+                List<String> retries = RetryAnalyzer.getRetries();
+                if (!retries.isEmpty()) {
+                    ExtentManager.getExtent().setSystemInfo("Retries", String.join("<br>", retries));
+                }
+                List<String> isolationViolations = SharedDriverSession.getViolations();
+                if (!isolationViolations.isEmpty()) {
+                    ExtentManager.getExtent().setSystemInfo("Isolation Violations", String.join("<br>", isolationViolations));
+                }
+                List<String> circuitEvents = CircuitBreaker.getEvents();
+                if (!circuitEvents.isEmpty()) {
+                    ExtentManager.getExtent().setSystemInfo("Circuit Breaker", String.join("<br>", circuitEvents));
+                }
+                List<String> waitReport = WaitProfiler.getSuiteReport();
+                if (!waitReport.isEmpty()) {
+                    ExtentManager.getExtent().setSystemInfo("Wasted Waits", String.join("<br>", waitReport));
+                }
                 ExtentManager.getExtent().flush();
             }
         } catch (Exception e) {
             e.printStackTrace();
+        } finally {
+            // Quit pooled browsers and stop reused driver services
+            DriverFactory.shutdown();
         }
     }
     
@@ -126,11 +273,20 @@ public class BaseTest {
     }
     
     /**
-     * Wait for page to load
+     * Wait for page to load: document complete and network idle, or a fixed sleep
+     * when browser.network.idle.wait is disabled
      */
     protected void waitForPageLoad() {
+        if (ConfigReader.isNetworkIdleWaitEnabled()) {
+            NetworkIdleMonitor.waitForIdle(driver);
+            return;
+        }
+        if (WaitProfiler.isEnabled()) {
+            NetworkIdleMonitor.sleepProfiled(driver, PAGE_LOAD_SLEEP_MILLIS);
+            return;
+        }
         try {
-            Thread.sleep(2000); // Simple wait, can be enhanced with WebDriverWait
+            Thread.sleep(PAGE_LOAD_SLEEP_MILLIS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -0,0 +1,93 @@
+package com.qa.orangehrm.tests;
+
+import com.qa.orangehrm.factory.AsyncSession;
+import com.qa.orangehrm.factory.DriverFactory;
+import com.qa.orangehrm.pages.AsyncLoginPage;
+import com.qa.orangehrm.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Benchmark class comparing logging several browsers in one after the other with fanning the
+ * login out to all of them from the test thread through AsyncSession
+ */
+public class AsyncSessionBenchmarkTest {
+    
+    private List<AsyncSession> sessions = new ArrayList<>();
+    
+    @BeforeClass(alwaysRun = true)
+    public void setUp() {
+        sessions = AsyncSession.launch(ConfigReader.getIntProperty("benchmark.sessions", 4)).join();
+    }
+    
+    /**
+     * Benchmark sequential vs fanned-out login across the sessions
+     */
+    @Test(description = "Compare logging sessions in one by one with one thread driving all of them", groups = {"benchmark"})
+    public void benchmarkFanOutLogin() {
+        String username = ConfigReader.getUsername();
+        String password = ConfigReader.getPassword();
+        
+        long start = System.currentTimeMillis();
+        for (AsyncSession session : sessions) {
+            new AsyncLoginPage(session).loginToDashboard(username, password).join();
+        }
+        long sequential = System.currentTimeMillis() - start;
+        
+        logOut();
+        start = System.currentTimeMillis();
+        List<CompletableFuture<String>> logins = new ArrayList<>();
+        for (AsyncSession session : sessions) {
+            logins.add(new AsyncLoginPage(session).loginToDashboard(username, password));
+        }
+        long issued = System.currentTimeMillis() - start;
+        List<String> dashboards = AsyncSession.joinAll(logins).join();
+        long fanOut = System.currentTimeMillis() - start;
+        
+        String summary = "Login to dashboard in " + sessions.size() + " sessions: one by one=" + sequential
+                + "ms, fanned out from one thread=" + fanOut + "ms (all logins issued in " + issued + "ms)";
+        System.out.println(summary);
+        Reporter.log(summary);
+        
+        Set<String> sessionIds = new HashSet<>();
+        for (int i = 0; i < sessions.size(); i++) {
+            WebDriver driver = sessions.get(i).getDriver();
+            Assert.assertTrue(dashboards.get(i).contains("dashboard"), "Fanned-out login should land on the dashboard: " + dashboards.get(i));
+            // The blocking driver must see the same page the async commands drove
+            Assert.assertTrue(driver.getCurrentUrl().contains("dashboard"), "Browser should show the dashboard: " + driver.getCurrentUrl());
+            sessionIds.add(String.valueOf(((RemoteWebDriver) DriverFactory.unwrap(driver)).getSessionId()));
+        }
+        Assert.assertEquals(sessionIds.size(), sessions.size(), "Every async handle should drive its own browser session");
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        for (AsyncSession session : sessions) {
+            session.quit();
+        }
+        // Wait for the background quits
+        DriverFactory.shutdown();
+    }
+    
+    /**
+     * Drop every session's login so the next round starts from scratch
+     */
+    private void logOut() {
+        List<CompletableFuture<Void>> logouts = new ArrayList<>();
+        for (AsyncSession session : sessions) {
+            logouts.add(session.deleteAllCookies());
+        }
+        AsyncSession.joinAll(logouts).join();
+    }
+}
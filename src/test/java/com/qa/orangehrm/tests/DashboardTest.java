@@ -2,16 +2,24 @@ package com.qa.orangehrm.tests;
 
 import com.qa.orangehrm.base.BaseTest;
 import com.qa.orangehrm.constants.AppConstants;
+import com.qa.orangehrm.factory.SharedDriver;
 import com.qa.orangehrm.pages.DashboardPage;
 import com.qa.orangehrm.pages.LoginPage;
+import com.qa.orangehrm.pages.SessionCache;
+import com.qa.orangehrm.utils.ConfigReader;
 import com.qa.orangehrm.utils.ExtentManager;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.List;
+
 /**
- * Test class for OrangeHRM Dashboard functionality
+ * Test class for OrangeHRM Dashboard functionality; the methods only read dashboard state,
+ * so they share one browser and login per worker
  */
+@SharedDriver
+@Test(singleThreaded = true)
 public class DashboardTest extends BaseTest {
     
     private LoginPage loginPage;
@@ -22,20 +30,24 @@ public class DashboardTest extends BaseTest {
      */
     @BeforeMethod(alwaysRun = true)
     public void loginSetup() {
+        if (isSkippedByCircuitBreaker()) {
+            return;
+        }
         try {
             loginPage = new LoginPage();
             dashboardPage = new DashboardPage();
             
-            // Login to access dashboard
-            loginPage.loginWithDefaultCredentials();
-            waitForPageLoad();
+            // Already logged in and back on the dashboard
+            if (isSharedDriverReused()) {
+                return;
+            }
             
-            // Wait a bit for the page to fully load
-            Thread.sleep(2000);
+            // Login to access dashboard, reusing this worker's session when it is still valid
+            SessionCache.login(ConfigReader.getUsername(), ConfigReader.getPassword());
             
         } catch (Exception e) {
             e.printStackTrace();
-            throw new RuntimeException("Failed to setup login for dashboard tests: " + e.getMessage());
+            throw new RuntimeException("Failed to setup login for dashboard tests: " + e.getMessage(), e);
         }
     }
     
@@ -49,13 +61,8 @@ public class DashboardTest extends BaseTest {
             Assert.assertTrue(dashboardPage.verifySuccessfulLogin(), "Dashboard should be loaded after login");
             
             // Verify main navigation menus are displayed
-            Assert.assertTrue(dashboardPage.isAdminMenuDisplayed(), "Admin menu should be displayed");
-            Assert.assertTrue(dashboardPage.isPimMenuDisplayed(), "PIM menu should be displayed");
-            Assert.assertTrue(dashboardPage.isLeaveMenuDisplayed(), "Leave menu should be displayed");
-            Assert.assertTrue(dashboardPage.isTimeMenuDisplayed(), "Time menu should be displayed");
-            Assert.assertTrue(dashboardPage.isRecruitmentMenuDisplayed(), "Recruitment menu should be displayed");
-            Assert.assertTrue(dashboardPage.isMyInfoMenuDisplayed(), "My Info menu should be displayed");
-            Assert.assertTrue(dashboardPage.isPerformanceMenuDisplayed(), "Performance menu should be displayed");
+            List<String> hiddenMenus = dashboardPage.getHiddenMainMenus();
+            Assert.assertTrue(hiddenMenus.isEmpty(), "Main menus should be displayed, hidden: " + hiddenMenus);
             
             // Verify dashboard components
             Assert.assertTrue(dashboardPage.areDashboardCardsDisplayed(), "Dashboard cards should be displayed");
@@ -0,0 +1,70 @@
+package com.qa.orangehrm.tests;
+
+import com.qa.orangehrm.factory.DriverFactory;
+import com.qa.orangehrm.factory.DriverServiceManager;
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+/**
+ * Benchmark class comparing browser session startup with and without driver service reuse
+ */
+public class DriverStartupBenchmarkTest {
+    
+    /**
+     * Benchmark session create + quit time per test
+     */
+    @Test(description = "Compare session startup time with a new vs reused driver service", groups = {"benchmark"})
+    public void benchmarkDriverServiceReuse() {
+        int iterations = ConfigReader.getIntProperty("benchmark.iterations", 5);
+        
+        long singleSessionServices = MetricsCollector.getCount("driver.service.single.session");
+        long sharedServiceStarts = MetricsCollector.getCount("driver.service.starts");
+        long newServiceAverage = averageSessionTime(false, iterations);
+        long newServiceLoopServices = MetricsCollector.getCount("driver.service.single.session") - singleSessionServices;
+        long newServiceLoopStarts = MetricsCollector.getCount("driver.service.starts") - sharedServiceStarts;
+        
+        // First session on a reused service pays the one-time service start
+        DriverFactory.quitBrowser(DriverFactory.createDriver(true));
+        singleSessionServices = MetricsCollector.getCount("driver.service.single.session");
+        sharedServiceStarts = MetricsCollector.getCount("driver.service.starts");
+        long reusedServiceAverage = averageSessionTime(true, iterations);
+        long reusedLoopServices = MetricsCollector.getCount("driver.service.single.session") - singleSessionServices;
+        long reusedLoopStarts = MetricsCollector.getCount("driver.service.starts") - sharedServiceStarts;
+        
+        long saved = newServiceAverage - reusedServiceAverage;
+        String summary = "Session create+quit over " + iterations + " iterations: new service avg="
+                + newServiceAverage + "ms, reused service avg=" + reusedServiceAverage
+                + "ms, saved per test=" + saved + "ms";
+        System.out.println(summary);
+        Reporter.log(summary);
+        
+        Assert.assertEquals(newServiceLoopServices, iterations, "Every session without reuse should get its own driver service");
+        Assert.assertEquals(newServiceLoopStarts, 0, "Sessions without reuse should not start a shared driver service");
+        Assert.assertEquals(reusedLoopStarts, 0, "Sessions on the reused service should not start another driver service");
+        Assert.assertEquals(reusedLoopServices, 0, "Sessions on the reused service should not fall back to a dedicated service");
+    }
+    
+    /**
+     * Clean up driver services started by the benchmark
+     */
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        DriverServiceManager.shutdown();
+    }
+    
+    private long averageSessionTime(boolean reuseDriverService, int iterations) {
+        long total = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.currentTimeMillis();
+            WebDriver driver = DriverFactory.createDriver(reuseDriverService);
+            DriverFactory.quitBrowser(driver);
+            total += System.currentTimeMillis() - start;
+        }
+        return total / iterations;
+    }
+}
@@ -0,0 +1,163 @@
+package com.qa.orangehrm.tests;
+
+import com.qa.orangehrm.factory.DriverFactory;
+import com.qa.orangehrm.pages.BasePage;
+import com.qa.orangehrm.pages.DashboardPage;
+import com.qa.orangehrm.pages.LoginPage;
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.LocatorCompiler;
+import com.qa.orangehrm.utils.PageScripts;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark class timing every page object locator against saved page snapshots
+ * and comparing each XPath with its compiled CSS equivalent
+ */
+public class LocatorBenchmarkTest {
+    
+    private static final File SNAPSHOT_DIRECTORY = new File("target/locator-snapshots");
+    
+    private WebDriver driver;
+    
+    @BeforeClass(alwaysRun = true)
+    public void setUp() {
+        driver = DriverFactory.initDriver();
+    }
+    
+    /**
+     * Rank locators of the login and dashboard pages by resolution time
+     */
+    @Test(description = "Rank page object locators by lookup time and verify compiled locators match the same elements",
+            groups = {"benchmark"})
+    public void benchmarkPageLocators() throws IOException {
+        int iterations = ConfigReader.getIntProperty("benchmark.iterations", 5) * 20;
+        
+        File loginSnapshot = saveSnapshot("login", () -> driver.get(ConfigReader.getAppUrl()));
+        File dashboardSnapshot = saveSnapshot("dashboard", () -> {
+            driver.get(ConfigReader.getAppUrl());
+            LoginPage loginPage = new LoginPage();
+            loginPage.waitForLoginForm();
+            loginPage.loginWithDefaultCredentials();
+            new DashboardPage().waitForDashboardToLoad();
+        });
+        
+        List<LocatorTiming> timings = new ArrayList<>();
+        timings.addAll(timeLocators(new LoginPage(), loginSnapshot, iterations));
+        timings.addAll(timeLocators(new DashboardPage(), dashboardSnapshot, iterations));
+        timings.sort(Comparator.comparingLong((LocatorTiming timing) -> timing.originalMicros).reversed());
+        
+        StringBuilder report = new StringBuilder("Locator lookup times over " + iterations + " iterations (slowest first):");
+        for (LocatorTiming timing : timings) {
+            report.append("\n  - ").append(timing);
+        }
+        System.out.println(report);
+        Reporter.log(report.toString().replace("\n", "<br>"));
+        
+        for (LocatorTiming timing : timings) {
+            Assert.assertEquals(timing.compiledMatches, timing.originalMatches,
+                    "Compiled locator should match the same elements: " + timing.name);
+            // Waits, bulk state queries and script form fills all fall back to WebDriver calls otherwise
+            Assert.assertNotNull(PageScripts.toScriptLocator(timing.compiled),
+                    "Page object locator should be evaluable inside the page: " + timing.name);
+        }
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        DriverFactory.quitDriver();
+    }
+    
+    /**
+     * Time original and compiled lookups of every By field declared by the page
+     */
+    private List<LocatorTiming> timeLocators(BasePage page, File snapshot, int iterations) {
+        driver.get(snapshot.toURI().toString());
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        List<LocatorTiming> timings = new ArrayList<>();
+        try {
+            for (Map.Entry<String, By> entry : LocatorCompiler.getDeclaredLocators(page).entrySet()) {
+                By original = entry.getValue();
+                By rewritten = LocatorCompiler.rewrite(original);
+                By compiled = rewritten == null ? original : rewritten;
+                LocatorTiming timing = new LocatorTiming(entry.getKey(), original, compiled);
+                timing.originalMatches = driver.findElements(original).size();
+                timing.compiledMatches = driver.findElements(compiled).size();
+                timing.originalMicros = averageLookupMicros(original, iterations);
+                timing.compiledMicros = rewritten == null ? timing.originalMicros : averageLookupMicros(compiled, iterations);
+                timings.add(timing);
+            }
+        } finally {
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
+        }
+        return timings;
+    }
+    
+    private long averageLookupMicros(By locator, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            driver.findElements(locator);
+        }
+        return (System.nanoTime() - start) / 1000 / iterations;
+    }
+    
+    /**
+     * Save the rendered page without scripts so the benchmark replays a static DOM;
+     * an existing snapshot is reused unless locator.snapshot.refresh=true
+     */
+    private File saveSnapshot(String name, Runnable openPage) throws IOException {
+        File snapshot = new File(SNAPSHOT_DIRECTORY, name + ".html");
+        if (snapshot.exists() && !ConfigReader.getBooleanProperty("locator.snapshot.refresh", false)) {
+            return snapshot;
+        }
+        openPage.run();
+        String html = driver.getPageSource().replaceAll("(?is)<script\\b.*?</script>", "");
+        SNAPSHOT_DIRECTORY.mkdirs();
+        Files.write(snapshot.toPath(), html.getBytes(StandardCharsets.UTF_8));
+        return snapshot;
+    }
+    
+    /**
+     * Lookup timing of one page object locator
+     */
+    private static class LocatorTiming {
+        private final String name;
+        private final By original;
+        private final By compiled;
+        private int originalMatches;
+        private int compiledMatches;
+        private long originalMicros;
+        private long compiledMicros;
+        
+        LocatorTiming(String name, By original, By compiled) {
+            this.name = name;
+            this.original = original;
+            this.compiled = compiled;
+        }
+        
+        @Override
+        public String toString() {
+            String result = name + " [cost " + LocatorCompiler.estimateCost(original) + "] " + original
+                    + ": " + originalMicros + "us, " + originalMatches + " match(es)";
+            if (compiled != original) {
+                result += " -> " + compiled + ": " + compiledMicros + "us";
+            }
+            return result;
+        }
+    }
+}
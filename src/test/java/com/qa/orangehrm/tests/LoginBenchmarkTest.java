@@ -0,0 +1,88 @@
+package com.qa.orangehrm.tests;
+
+import com.qa.orangehrm.constants.AppConstants;
+import com.qa.orangehrm.factory.DriverFactory;
+import com.qa.orangehrm.pages.DashboardPage;
+import com.qa.orangehrm.pages.LoginPage;
+import com.qa.orangehrm.utils.ApiAuthenticator;
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Benchmark class comparing login through the form with HTTP login and cookie injection,
+ * both measured until the dashboard is displayed
+ */
+public class LoginBenchmarkTest {
+    
+    private WebDriver driver;
+    
+    @BeforeClass(alwaysRun = true)
+    public void setUp() {
+        driver = DriverFactory.initDriver();
+    }
+    
+    /**
+     * Benchmark UI login vs API login per test
+     */
+    @Test(description = "Compare login through the form with HTTP login and cookie injection", groups = {"benchmark"})
+    public void benchmarkLoginPaths() {
+        int iterations = ConfigReader.getIntProperty("benchmark.iterations", 5);
+        
+        long uiTotal = 0;
+        long apiTotal = 0;
+        long httpBefore = MetricsCollector.getTotalTime("login.api.http.time");
+        long scriptFillsBefore = MetricsCollector.getCount("form.fill.script");
+        long fallbackFillsBefore = MetricsCollector.getCount("form.fill.fallback");
+        for (int i = 0; i < iterations; i++) {
+            logOut();
+            long start = System.currentTimeMillis();
+            driver.get(AppConstants.LOGIN_PAGE_URL);
+            LoginPage loginPage = new LoginPage();
+            loginPage.waitForLoginForm();
+            loginPage.login(ConfigReader.getUsername(), ConfigReader.getPassword());
+            new DashboardPage().waitForDashboardToLoad();
+            uiTotal += System.currentTimeMillis() - start;
+            
+            logOut();
+            start = System.currentTimeMillis();
+            Assert.assertTrue(ApiAuthenticator.login(driver), "API login should land on the dashboard");
+            new DashboardPage().waitForDashboardToLoad();
+            apiTotal += System.currentTimeMillis() - start;
+        }
+        long httpTotal = MetricsCollector.getTotalTime("login.api.http.time") - httpBefore;
+        long scriptFills = MetricsCollector.getCount("form.fill.script") - scriptFillsBefore;
+        long fallbackFills = MetricsCollector.getCount("form.fill.fallback") - fallbackFillsBefore;
+        
+        long uiAverage = uiTotal / iterations;
+        long apiAverage = apiTotal / iterations;
+        String summary = "Login to dashboard over " + iterations + " iterations: UI avg=" + uiAverage
+                + "ms, API avg=" + apiAverage + "ms (of which HTTP login " + httpTotal / iterations
+                + "ms), saved per login=" + (uiAverage - apiAverage) + "ms";
+        System.out.println(summary);
+        Reporter.log(summary);
+        
+        if (ConfigReader.isFormFillScriptEnabled()) {
+            Assert.assertEquals(scriptFills, iterations, "Every UI login should fill the form in one script call");
+            Assert.assertEquals(fallbackFills, 0, "No UI login should fall back to filling the form field by field");
+        }
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        DriverFactory.quitDriver();
+    }
+    
+    /**
+     * Drop the session so the next login starts from scratch
+     */
+    private void logOut() {
+        driver.get(AppConstants.LOGIN_PAGE_URL);
+        driver.manage().deleteAllCookies();
+    }
+}
@@ -0,0 +1,119 @@
+package com.qa.orangehrm.tests;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.qa.orangehrm.base.BaseTest;
+import com.qa.orangehrm.factory.DriverFactory;
+import com.qa.orangehrm.listeners.RetryAnalyzer;
+import com.qa.orangehrm.listeners.ShardedRows;
+import com.qa.orangehrm.pages.LoginPage;
+import com.qa.orangehrm.utils.ConfigReader;
+import com.qa.orangehrm.utils.DataRows;
+import com.qa.orangehrm.utils.ExtentManager;
+import com.qa.orangehrm.utils.MetricsCollector;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class running the login matrix: the username/password/expected rows of data.login.matrix.file
+ * are streamed through LoginPage.login by MATRIX_WORKERS browsers draining the file together. Every
+ * row gets its own report node, and a row that hits a browser or network failure is retried on a
+ * fresh browser by the worker that took it, so no row is lost to a retry of the whole worker
+ */
+public class LoginMatrixTest extends BaseTest {
+    
+    // A @DataProvider(parallel = true) would read the whole file up front, so workers poll the rows instead
+    private static final int MATRIX_WORKERS = 3;
+    
+    private DataRows loginMatrix;
+    
+    @BeforeClass(alwaysRun = true)
+    public void openLoginMatrix() {
+        loginMatrix = DataRows.open(ConfigReader.getLoginMatrixFile(), "username", "password", "expected").forCurrentShard();
+    }
+    
+    /**
+     * Test every login matrix row gives its expected outcome
+     */
+    @ShardedRows
+    @Test(description = "Verify every row of the login matrix gives its expected outcome", groups = {"regression", "login", "functional"},
+            invocationCount = MATRIX_WORKERS, threadPoolSize = MATRIX_WORKERS)
+    public void testLoginMatrix() {
+        List<String> failedRows = new ArrayList<>();
+        int checked = 0;
+        
+        // Each worker keeps its browser and takes rows until the file is exhausted or its browser cannot be replaced
+        Object[] row;
+        while (DriverFactory.getDriver() != null && (row = loginMatrix.poll()) != null) {
+            String failure = checkRow((String) row[0], (String) row[1], (String) row[2]);
+            if (failure != null) {
+                failedRows.add(failure);
+            }
+            checked++;
+        }
+        
+        ExtentManager.getCurrentTest().info(checked + " login matrix row(s) checked by this worker");
+        Assert.assertNotNull(DriverFactory.getDriver(), "Worker lost its browser, rows that failed: " + failedRows);
+        Assert.assertTrue(failedRows.isEmpty(), "Login matrix rows that failed: " + failedRows);
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void closeLoginMatrix() {
+        if (loginMatrix != null) {
+            // Only left over when every worker lost its browser
+            boolean unchecked = loginMatrix.poll() != null;
+            loginMatrix.close();
+            if (unchecked) {
+                throw new IllegalStateException("Login matrix rows were left unchecked: every worker lost its browser");
+            }
+        }
+    }
+    
+    /**
+     * Log in with one row and report it in its own node; returns null if it gave the expected outcome,
+     * else what went wrong. Browser and network failures are retried up to test.retry.count times
+     */
+    private String checkRow(String username, String password, String expected) {
+        String row = "'" + username + "' / '" + password + "'";
+        ExtentTest node = ExtentManager.getCurrentTest().createNode(row);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                DriverFactory.getDriver().manage().deleteAllCookies();
+                LoginPage loginPage = new LoginPage();
+                loginPage.navigateToLoginPage();
+                loginPage.waitForLoginForm();
+                loginPage.login(username, password);
+                String outcome = loginPage.waitForLoginOutcome();
+                
+                String result = row + ": expected " + expected + ", got " + outcome;
+                if (outcome.equals(expected)) {
+                    node.pass(result);
+                    return null;
+                }
+                node.fail(result);
+                return result;
+            } catch (RuntimeException e) {
+                if (!RetryAnalyzer.isInfrastructureFailure(e) || attempt > ConfigReader.getRetryCount()) {
+                    String result = row + ": " + e.getClass().getSimpleName() + " on attempt " + attempt;
+                    node.fail(result + " - " + e.getMessage());
+                    return result;
+                }
+                // The browser may be gone - repeat the row on a fresh one
+                node.warning("Attempt " + attempt + " failed, retrying on a new browser: " + e.getMessage());
+                MetricsCollector.increment("data.rows.retried");
+                DriverFactory.discardDriver();
+                try {
+                    DriverFactory.initDriver();
+                } catch (RuntimeException launchFailure) {
+                    String result = row + ": no browser to retry on after " + e.getClass().getSimpleName();
+                    node.fail(result + " - " + launchFailure.getMessage());
+                    return result;
+                }
+            }
+        }
+    }
+}
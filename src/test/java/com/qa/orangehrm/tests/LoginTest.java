@@ -4,10 +4,14 @@ import com.qa.orangehrm.base.BaseTest;
 import com.qa.orangehrm.constants.AppConstants;
 import com.qa.orangehrm.pages.DashboardPage;
 import com.qa.orangehrm.pages.LoginPage;
+import com.qa.orangehrm.pages.SessionCache;
 import com.qa.orangehrm.utils.ExtentManager;
+import com.qa.orangehrm.utils.MetricsCollector;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.List;
+
 /**
  * Test class for OrangeHRM Login functionality
  */
@@ -117,17 +121,16 @@ public class LoginTest extends BaseTest {
             // Wait for login form to be visible
             loginPage.waitForLoginForm();
             
-            // Verify login page is loaded
-            Assert.assertTrue(loginPage.isLoginFormDisplayed(), "Login form should be displayed");
-            
-            // Verify all elements are displayed
-            Assert.assertTrue(loginPage.isOrangeHRMLogoDisplayed(), "OrangeHRM logo should be displayed");
-            Assert.assertTrue(loginPage.isForgotPasswordLinkDisplayed(), "Forgot password link should be displayed");
+            // Verify login form, logo and forgot password link are displayed
+            long bulkQueriesBefore = MetricsCollector.getCount("element.state.bulk.queries");
+            List<String> hiddenElements = loginPage.getHiddenLoginPageElements();
+            Assert.assertTrue(hiddenElements.isEmpty(), "Login page elements should be displayed, hidden: " + hiddenElements);
             
             // Verify form fields are enabled
-            Assert.assertTrue(loginPage.isUsernameFieldEnabled(), "Username field should be enabled");
-            Assert.assertTrue(loginPage.isPasswordFieldEnabled(), "Password field should be enabled");
-            Assert.assertTrue(loginPage.isLoginButtonEnabled(), "Login button should be enabled");
+            List<String> disabledFields = loginPage.getDisabledLoginFields();
+            Assert.assertTrue(disabledFields.isEmpty(), "Login fields should be enabled, disabled: " + disabledFields);
+            Assert.assertTrue(MetricsCollector.getCount("element.state.bulk.queries") - bulkQueriesBefore >= 2,
+                "Login page element and field states should each be read in one script call");
             
             // Verify page title and URL
             Assert.assertEquals(loginPage.getLoginPageTitle(), AppConstants.LOGIN_PAGE_TITLE, 
@@ -190,15 +193,15 @@ public class LoginTest extends BaseTest {
             loginPage = new LoginPage();
             dashboardPage = new DashboardPage();
             
-            // Login first
-            loginPage.loginWithDefaultCredentials();
-            waitForPageLoad();
+            // Login first, reusing this worker's session when it is still valid
+            SessionCache.loginWithDefaultCredentials();
             
             // Verify dashboard is loaded
             Assert.assertTrue(dashboardPage.verifySuccessfulLogin(), "Dashboard should be loaded");
             
             // Perform logout
             dashboardPage.clickLogout();
+            SessionCache.invalidate(AppConstants.DEFAULT_USERNAME);
             waitForPageLoad();
             
             // Verify returned to login page